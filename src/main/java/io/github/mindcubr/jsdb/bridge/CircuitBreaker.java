@@ -0,0 +1,131 @@
+package io.github.mindcubr.jsdb.bridge;
+
+import org.apache.commons.lang3.Validate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Circuit breaker of one host, that fails fast while the host is
+ * degraded instead of letting threads wait on a dead upstream.
+ * <p>After {@code threshold} consecutive failures the circuit is
+ * {@link State#OPEN opened} and requests are rejected for the open time.
+ * Afterwards one trial request is let through: if it succeeds the circuit
+ * is {@link State#CLOSED closed} again, otherwise it is reopened.
+ *
+ * @author mindcubr
+ * @since 1.0-0.3
+ */
+public class CircuitBreaker {
+
+    /**
+     * The states a {@link CircuitBreaker} can be in.
+     */
+    public enum State {
+
+        /**
+         * Requests are let through.
+         */
+        CLOSED,
+
+        /**
+         * Requests are rejected.
+         */
+        OPEN,
+
+        /**
+         * One trial request is let through to test the host.
+         */
+        HALF_OPEN
+
+    }
+
+    private final int threshold;
+
+    private final long openNanos;
+
+    private State state = State.CLOSED;
+
+    private int failures;
+
+    private long openedAt;
+
+    private boolean trialInFlight;
+
+    protected CircuitBreaker(int threshold, long openMillis) {
+        Validate.isTrue(threshold > 0, "The threshold must be positive.");
+        Validate.isTrue(openMillis > 0, "The open time must be positive.");
+        this.threshold = threshold;
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(openMillis);
+    }
+
+    /**
+     * Returns whether a request may be sent to the host.
+     * <p>If true is returned, the outcome of the request must be reported
+     * using {@link #recordSuccess()} or {@link #recordFailure()}.
+     */
+    public synchronized boolean allowRequest() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAt < openNanos)
+                return false;
+            state = State.HALF_OPEN;
+            trialInFlight = false;
+        }
+        if (state == State.HALF_OPEN) {
+            if (trialInFlight)
+                return false;
+            trialInFlight = true;
+        }
+        return true;
+    }
+
+    /**
+     * Reports a successful request, closing the circuit.
+     */
+    public synchronized void recordSuccess() {
+        state = State.CLOSED;
+        failures = 0;
+        trialInFlight = false;
+    }
+
+    /**
+     * Reports a failed request, opening the circuit if the threshold
+     * of consecutive failures is reached or the trial request failed.
+     */
+    public synchronized void recordFailure() {
+        failures++;
+        if (state == State.HALF_OPEN || failures >= threshold) {
+            state = State.OPEN;
+            openedAt = System.nanoTime();
+            trialInFlight = false;
+        }
+    }
+
+    /**
+     * Reports a request whose outcome says nothing about the health of
+     * the host, e.g. because it was cancelled. A trial request slot is
+     * given back without changing the state.
+     */
+    public synchronized void recordIgnored() {
+        trialInFlight = false;
+    }
+
+    /**
+     * Returns the current state of this circuit.
+     */
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * Creates a new and closed {@link CircuitBreaker}.
+     *
+     * @param threshold  the consecutive failures that open the circuit
+     * @param openMillis the milliseconds the circuit stays open
+     * @return a new {@link CircuitBreaker} instance.
+     * @throws IllegalArgumentException - if an input is not positive.
+     */
+    public static CircuitBreaker create(int threshold, long openMillis) {
+        return new CircuitBreaker(threshold, openMillis);
+    }
+
+}
@@ -1,12 +1,35 @@
 package io.github.mindcubr.jsdb.bridge;
 
 
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import io.github.mindcubr.jsdb.bridge.config.FetchConfig;
 import io.github.mindcubr.jsdb.bridge.config.GlobalConfig;
 import io.github.mindcubr.jsdb.bridge.config.IBridgeConfig;
+import io.github.mindcubr.jsdb.bridge.config.IFetchConfig;
+import io.github.mindcubr.jsdb.deserialize.siege.SiegeTypeAdapterFactory;
+import io.github.mindcubr.jsdb.fetch.cache.DiskCache;
 import io.github.mindcubr.jsdb.fetch.http.DBRequest;
+import okhttp3.ConnectionPool;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
 /**
  * The <b>Bridge</b> is the main component and access point to the
@@ -17,16 +40,121 @@ import java.util.Objects;
  * to other classes and their features, which may require other information
  * also provided in this "net" of structure.
  *
+ * <p>A bridge is thread-safe and is meant to be shared between
+ * multiple fetchers and threads. The number of requests in flight
+ * at the same time is limited by the {@link IFetchConfig}.
+ *
  * @author mindcubr
  * @since 1.0-0.1
  */
-public class DBBridge {
+public class DBBridge implements Closeable {
+
+    @NotNull
+    private volatile IBridgeConfig config;
+
+    @NotNull
+    private final IFetchConfig fetchConfig;
+
+    /**
+     * The permits of requests that may be in flight at once.
+     */
+    @NotNull
+    private final Semaphore requestPermits;
+
+    /**
+     * The limiter of the request rate, or null if not limited.
+     */
+    @Nullable
+    private final RateLimiter rateLimiter;
 
+    /**
+     * The circuit breakers mapped by the host they belong to.
+     */
+    @NotNull
+    private final ConcurrentMap<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+
+    /**
+     * The executor running asynchronous fetches.
+     */
     @NotNull
-    private IBridgeConfig config;
+    private final Executor executor;
 
-    private DBBridge(@NotNull IBridgeConfig config) {
+    /**
+     * The executor created by this bridge itself, that is shut down
+     * when this bridge is closed, or null if the executor was given.
+     */
+    @Nullable
+    private final ExecutorService ownedExecutor;
+
+    /**
+     * The shared HTTP client of all requests sent through this bridge,
+     * pooling connections so they are reused across requests.
+     */
+    @NotNull
+    private final OkHttpClient httpClient;
+
+    /**
+     * The shared and thread-safe {@link Gson} instance used to
+     * deserialize responses, so it is not rebuilt per response.
+     */
+    @NotNull
+    private final Gson gson = new GsonBuilder()
+            .registerTypeAdapterFactory(SiegeTypeAdapterFactory.INSTANCE)
+            .create();
+
+    /**
+     * The persistent cache of raw responses, or null if disabled.
+     */
+    @Nullable
+    private final DiskCache diskCache;
+
+    private DBBridge(@NotNull IBridgeConfig config,
+                     @NotNull IFetchConfig fetchConfig) {
         this.config = config;
+        this.fetchConfig = fetchConfig;
+        this.requestPermits = new Semaphore(
+                fetchConfig.getMaxConcurrentRequests(), true);
+        this.ownedExecutor = fetchConfig.getExecutor() == null
+                ? FetchExecutors.newFetchExecutor(fetchConfig.getMaxConcurrentRequests(),
+                fetchConfig.isVirtualThreads())
+                : null;
+        this.executor = ownedExecutor != null ? ownedExecutor : fetchConfig.getExecutor();
+        this.rateLimiter = fetchConfig.getRequestsPerSecond() > 0
+                ? RateLimiter.create(fetchConfig.getRequestsPerSecond(),
+                fetchConfig.getRequestBurst())
+                : null;
+        this.diskCache = openDiskCache(fetchConfig);
+        this.httpClient = createHttpClient(fetchConfig);
+    }
+
+    /**
+     * Creates the shared HTTP client tuned by the input {@code fetchConfig}.
+     */
+    @NotNull
+    private static OkHttpClient createHttpClient(@NotNull IFetchConfig fetchConfig) {
+        return new OkHttpClient.Builder()
+                .connectionPool(new ConnectionPool(fetchConfig.getMaxIdleConnections(),
+                        fetchConfig.getKeepAliveTime(), TimeUnit.MILLISECONDS))
+                .protocols(fetchConfig.isHttp2Preferred()
+                        ? Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1)
+                        : Collections.singletonList(Protocol.HTTP_1_1))
+                .connectTimeout(fetchConfig.getConnectTimeout(), TimeUnit.MILLISECONDS)
+                .readTimeout(fetchConfig.getReadTimeout(), TimeUnit.MILLISECONDS)
+                .writeTimeout(fetchConfig.getWriteTimeout(), TimeUnit.MILLISECONDS)
+                .retryOnConnectionFailure(true)
+                .build();
+    }
+
+    @Nullable
+    private static DiskCache openDiskCache(@NotNull IFetchConfig fetchConfig) {
+        File directory = fetchConfig.getDiskCacheDirectory();
+        if (directory == null)
+            return null;
+        try {
+            return DiskCache.open(directory, fetchConfig.getDiskCacheSegmentSize());
+        } catch (IOException exc) {
+            throw new UncheckedIOException(exc);
+        }
     }
 
     /**
@@ -43,6 +171,140 @@ public class DBBridge {
         return DBRequest.request(url, this);
     }
 
+    /**
+     * Acquires a permit to send a request, waiting until one is
+     * available if the maximum of concurrent requests or the
+     * {@link RateLimiter rate limit} is reached.
+     * <p>Every acquired permit must be given back using
+     * {@link #releaseRequest()} once the response is processed.
+     *
+     * @throws InterruptedException - if the waiting thread is interrupted.
+     * @see IFetchConfig#getMaxConcurrentRequests()
+     * @see IFetchConfig#getRequestsPerSecond()
+     */
+    public void acquireRequest() throws InterruptedException {
+        requestPermits.acquire();
+        if (rateLimiter == null)
+            return;
+        try {
+            rateLimiter.acquire();
+        } catch (InterruptedException exc) {
+            requestPermits.release();
+            throw exc;
+        }
+    }
+
+    /**
+     * Releases a permit previously acquired by {@link #acquireRequest()}.
+     */
+    public void releaseRequest() {
+        requestPermits.release();
+    }
+
+    /**
+     * Returns the {@link RateLimiter} of this bridge, or null if
+     * the requests are not rate limited.
+     *
+     * @see IFetchConfig#getRequestsPerSecond()
+     */
+    @Nullable
+    public RateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
+    /**
+     * Returns the {@link CircuitBreaker} of the host of the input
+     * {@code url}, creating it if not existing yet.
+     *
+     * @param url the URL a request is sent to
+     * @return the circuit breaker of the host, or null if circuit
+     * breakers are disabled or the {@code url} is invalid.
+     * @see IFetchConfig#getCircuitBreakerThreshold()
+     */
+    @Nullable
+    public CircuitBreaker getCircuitBreaker(@NotNull String url) {
+        if (fetchConfig.getCircuitBreakerThreshold() <= 0)
+            return null;
+        HttpUrl httpUrl = HttpUrl.parse(url);
+        if (httpUrl == null)
+            return null;
+        return circuitBreakers.computeIfAbsent(httpUrl.host(), host ->
+                CircuitBreaker.create(fetchConfig.getCircuitBreakerThreshold(),
+                        fetchConfig.getCircuitBreakerOpenTime()));
+    }
+
+    /**
+     * Returns the executor running asynchronous fetches of
+     * fetchers connected to this bridge.
+     *
+     * @see IFetchConfig#getExecutor()
+     */
+    @NotNull
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Returns the shared {@link OkHttpClient} of this bridge, which sends
+     * the conditional requests of fetchers, so that connections, TLS
+     * sessions and HTTP/2 streams are reused instead of being established
+     * per request.
+     * <p>The client is tuned by the {@link IFetchConfig} of this bridge.
+     * The number of requests in flight is limited by the bridge itself,
+     * see {@link #acquireRequest()}.
+     */
+    @NotNull
+    public OkHttpClient getHttpClient() {
+        return httpClient;
+    }
+
+    /**
+     * Returns the persistent cache of raw responses shared by all
+     * fetchers of this bridge, or null if it is disabled.
+     */
+    @Nullable
+    public DiskCache getDiskCache() {
+        return diskCache;
+    }
+
+    /**
+     * Returns the shared {@link Gson} instance of this bridge, that
+     * has the reflection-free type adapters of all models registered.
+     */
+    @NotNull
+    public Gson getGson() {
+        return gson;
+    }
+
+    /**
+     * Closes this bridge, flushing and closing its {@link #getDiskCache()
+     * disk cache}, if enabled, and shutting down the {@link #getExecutor()
+     * executor} if the bridge created it itself. Executors given by the
+     * {@link IFetchConfig#getExecutor()} are left running.
+     * <p>Afterwards responses are not persisted anymore and asynchronous
+     * fetches on a shut down executor complete exceptionally with a
+     * {@link java.util.concurrent.RejectedExecutionException}, while
+     * blocking fetches can still be sent.
+     *
+     * @since 1.0-0.3
+     */
+    @Override
+    public void close() {
+        if (ownedExecutor != null)
+            ownedExecutor.shutdown();
+        if (diskCache != null)
+            diskCache.close();
+    }
+
+    /**
+     * Returns this {@link #fetchConfig} value, that is an immutable
+     * snapshot of the configuration this bridge was created with.
+     */
+    @NotNull
+    public IFetchConfig getFetchConfig() {
+        return fetchConfig;
+    }
+
     /**
      * Returns this {@link #config} value.
      *
@@ -74,8 +336,24 @@ public class DBBridge {
      * @return a new {@link DBBridge} with the input {@code config}
      */
     public static DBBridge create(@NotNull GlobalConfig config) {
+        return create(config, FetchConfig.create());
+    }
+
+    /**
+     * Creates a new instance of a {@link DBBridge}.
+     *
+     * @param config      the configuration of the bridge
+     * @param fetchConfig the configuration of the requests sent
+     * @return a new {@link DBBridge} with both input configurations
+     * @throws IllegalArgumentException - if a value of the {@code fetchConfig}
+     * is out of range.
+     * @throws UncheckedIOException - if the disk cache cannot be opened.
+     */
+    public static DBBridge create(@NotNull GlobalConfig config,
+                                  @NotNull IFetchConfig fetchConfig) {
         Objects.requireNonNull(config);
-        return new DBBridge(config);
+        Objects.requireNonNull(fetchConfig);
+        return new DBBridge(config, FetchConfig.snapshotOf(fetchConfig));
     }
 
 }
@@ -0,0 +1,122 @@
+package io.github.mindcubr.jsdb.bridge;
+
+import org.apache.commons.lang3.Validate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token bucket that limits the rate of requests sent through one
+ * {@link DBBridge}, so the fetchers sharing that bridge stay below
+ * the quota of the <em>statsdb</em> API.
+ * <p>The bucket holds up to {@code burst} tokens and is refilled with
+ * {@code permitsPerSecond} tokens per second. Whenever the server
+ * answers with <em>429: Too Many Requests</em>, the limiter can be
+ * {@link #pause(long) paused} until the server accepts requests again.
+ *
+ * @author mindcubr
+ * @since 1.0-0.3
+ */
+public class RateLimiter {
+
+    private final double permitsPerSecond;
+
+    private final double burst;
+
+    /**
+     * The tokens currently stored in the bucket.
+     */
+    private double tokens;
+
+    /**
+     * The {@link System#nanoTime()} of the last refill.
+     */
+    private long refilledAt;
+
+    /**
+     * The {@link System#nanoTime()} until no tokens are handed out.
+     */
+    private long pausedUntil;
+
+    protected RateLimiter(double permitsPerSecond, int burst) {
+        Validate.isTrue(permitsPerSecond > 0, "The rate must be positive.");
+        Validate.isTrue(burst > 0, "The burst must be positive.");
+        this.permitsPerSecond = permitsPerSecond;
+        this.burst = burst;
+        this.tokens = burst;
+        this.refilledAt = System.nanoTime();
+        this.pausedUntil = refilledAt;
+    }
+
+    /**
+     * Takes one token out of the bucket, waiting until one is
+     * available if the bucket is empty or the limiter is paused.
+     *
+     * @throws InterruptedException - if the waiting thread is interrupted.
+     */
+    public void acquire() throws InterruptedException {
+        long wait;
+        while ((wait = tryReserve()) > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+    }
+
+    /**
+     * Tries to take one token out of the bucket.
+     *
+     * @return zero if a token was taken, else the nanoseconds to wait
+     * until the next token might be available.
+     */
+    private synchronized long tryReserve() {
+        long now = System.nanoTime();
+        if (now - pausedUntil < 0)
+            return pausedUntil - now;
+
+        //Refill the bucket for the time passed since the last refill
+        tokens = Math.min(burst, tokens
+                + (now - refilledAt) * permitsPerSecond / TimeUnit.SECONDS.toNanos(1));
+        refilledAt = now;
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return (long) Math.ceil((1 - tokens) * TimeUnit.SECONDS.toNanos(1) / permitsPerSecond);
+    }
+
+    /**
+     * Stops handing out tokens for the input {@code millis}, usually
+     * because the server asked to retry after that time.
+     * <p>The bucket is drained, so requests are not sent in a burst
+     * once the pause is over.
+     *
+     * @param millis the milliseconds to pause
+     */
+    public synchronized void pause(long millis) {
+        if (millis <= 0)
+            return;
+        long until = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+        if (until - pausedUntil > 0)
+            pausedUntil = until;
+        tokens = 0;
+        refilledAt = pausedUntil;
+    }
+
+    /**
+     * Returns the number of tokens refilled per second.
+     */
+    public double getPermitsPerSecond() {
+        return permitsPerSecond;
+    }
+
+    /**
+     * Creates a new {@link RateLimiter} with a full bucket.
+     *
+     * @param permitsPerSecond the number of tokens refilled per second
+     * @param burst            the maximum number of tokens in the bucket
+     * @return a new {@link RateLimiter} instance.
+     * @throws IllegalArgumentException - if an input is not positive.
+     */
+    public static RateLimiter create(double permitsPerSecond, int burst) {
+        return new RateLimiter(permitsPerSecond, burst);
+    }
+
+}
@@ -0,0 +1,170 @@
+package io.github.mindcubr.jsdb.bridge;
+
+import org.apache.commons.lang3.Validate;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.UnknownHostException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Immutable policy that describes whether and when a failed request
+ * is sent again.
+ * <p>Requests are retried if they failed due to a transient issue,
+ * such as a failed connection, a server error or a
+ * <em>429: Too Many Requests</em>. The delay between two attempts grows
+ * exponentially up to a maximum and is randomized ("full jitter"), so
+ * multiple clients do not retry in lockstep.
+ * <p>Requests that may already have been processed by the server, so
+ * server errors of requests with a non-idempotent method such as
+ * <em>POST</em> and connections failing after the request was sent, are
+ * only retried if explicitly allowed. A <em>429</em> is always retried,
+ * as the server rejected the request without processing it.
+ *
+ * @author mindcubr
+ * @since 1.0-0.3
+ */
+public final class RetryPolicy {
+
+    /**
+     * Policy that never retries a request.
+     */
+    public static final RetryPolicy NONE = new RetryPolicy(1, 0, 0, false);
+
+    /**
+     * The default policy, trying a request up to three times with a
+     * delay of up to {@code 250ms} and {@code 500ms} in between.
+     */
+    public static final RetryPolicy DEFAULT = new RetryPolicy(3, 250, 5000, false);
+
+    private final int maxAttempts;
+
+    private final long baseDelay;
+
+    private final long maxDelay;
+
+    private final boolean retryNonIdempotent;
+
+    private RetryPolicy(int maxAttempts, long baseDelay, long maxDelay,
+                        boolean retryNonIdempotent) {
+        this.maxAttempts = maxAttempts;
+        this.baseDelay = baseDelay;
+        this.maxDelay = maxDelay;
+        this.retryNonIdempotent = retryNonIdempotent;
+    }
+
+    /**
+     * Returns whether another attempt may follow the input {@code attempt}.
+     *
+     * @param attempt the number of the failed attempt, starting at one
+     */
+    public boolean canRetry(int attempt) {
+        return attempt < maxAttempts;
+    }
+
+    /**
+     * Returns whether a response with the input status {@code code}
+     * is caused by a transient issue and may be retried.
+     *
+     * @param code the status code of the response
+     */
+    public boolean isRetryable(int code) {
+        return code == 408 || code == 429 || code == 500
+                || code == 502 || code == 503 || code == 504;
+    }
+
+    /**
+     * Returns whether a request using the input HTTP {@code method}
+     * may be sent again without unwanted side effects.
+     *
+     * @param method the HTTP method of the request, e.g. <em>GET</em>
+     */
+    public boolean isRetryable(@NotNull String method) {
+        if (retryNonIdempotent)
+            return true;
+        switch (method) {
+            case "GET":
+            case "HEAD":
+            case "OPTIONS":
+            case "TRACE":
+            case "PUT":
+            case "DELETE":
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Returns whether a request that failed with the input {@code exc}
+     * may be sent again without unwanted side effects, which is only the
+     * case if the request was not sent yet, unless explicitly allowed.
+     *
+     * @param exc the failure of the request
+     */
+    public boolean isRetryable(@NotNull IOException exc) {
+        //The connection failed before the request was written
+        return retryNonIdempotent || exc instanceof ConnectException
+                || exc instanceof NoRouteToHostException
+                || exc instanceof UnknownHostException;
+    }
+
+    /**
+     * Returns the randomized milliseconds to wait after the input
+     * failed {@code attempt}, before the next attempt is sent.
+     *
+     * @param attempt the number of the failed attempt, starting at one
+     */
+    public long getDelay(int attempt) {
+        if (baseDelay <= 0)
+            return 0;
+        //Exponential growth capped at the maximum, without overflowing
+        int shift = Math.min(Math.max(attempt - 1, 0), 30);
+        long ceiling = Math.min(maxDelay, baseDelay << shift);
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+
+    /**
+     * Returns the maximum number of attempts of one request.
+     */
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Returns a copy of this policy that also retries requests using
+     * a non-idempotent HTTP method or failing after they were sent.
+     */
+    public RetryPolicy retryNonIdempotent() {
+        return new RetryPolicy(maxAttempts, baseDelay, maxDelay, true);
+    }
+
+    @Override
+    public String toString() {
+        return "RetryPolicy{" +
+                "maxAttempts=" + maxAttempts +
+                ", baseDelay=" + baseDelay +
+                ", maxDelay=" + maxDelay +
+                ", retryNonIdempotent=" + retryNonIdempotent +
+                '}';
+    }
+
+    /**
+     * Creates a new {@link RetryPolicy} with a capped exponential backoff.
+     *
+     * @param maxAttempts the maximum number of attempts, at least one
+     * @param baseDelay   the delay in milliseconds after the first attempt
+     * @param maxDelay    the maximum delay in milliseconds
+     * @return a new {@link RetryPolicy} instance.
+     * @throws IllegalArgumentException - if an input is out of range.
+     */
+    public static RetryPolicy create(int maxAttempts, long baseDelay, long maxDelay) {
+        Validate.isTrue(maxAttempts > 0, "The maximum of attempts must be positive.");
+        Validate.isTrue(baseDelay >= 0 && maxDelay >= baseDelay,
+                "The delays must be positive and the maximum at least the base.");
+        return new RetryPolicy(maxAttempts, baseDelay, maxDelay, false);
+    }
+
+}
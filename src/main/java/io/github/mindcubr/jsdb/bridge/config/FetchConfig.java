@@ -0,0 +1,803 @@
+package io.github.mindcubr.jsdb.bridge.config;
+
+import io.github.mindcubr.jsdb.bridge.DBBridge;
+import io.github.mindcubr.jsdb.bridge.RetryPolicy;
+import org.apache.commons.lang3.Validate;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.util.Objects;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Default and mutable implementation of an {@link IFetchConfig}.
+ * <p>Every setter returns this instance, so multiple values can be
+ * chained before the configuration is passed to a {@link DBBridge}:
+ * <pre><code>
+ *     FetchConfig config = FetchConfig.create()
+ *             .setMaxConcurrentRequests(32);
+ * </code></pre>
+ * <p>A bridge keeps a {@link #snapshotOf(IFetchConfig) snapshot} of the
+ * configuration it was created with, so mutating the configuration
+ * afterwards has no effect on that bridge.
+ *
+ * @author mindcubr
+ * @since 1.0-0.3
+ */
+public class FetchConfig implements IFetchConfig {
+
+    /**
+     * The default number of requests that may be in flight at once.
+     */
+    public static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 16;
+
+    /**
+     * The default number of requests sent at once after being idle.
+     */
+    public static final int DEFAULT_REQUEST_BURST = 10;
+
+    /**
+     * The default consecutive failures that open a circuit breaker.
+     */
+    public static final int DEFAULT_CIRCUIT_BREAKER_THRESHOLD = 5;
+
+    /**
+     * The default milliseconds a circuit breaker stays open.
+     */
+    public static final long DEFAULT_CIRCUIT_BREAKER_OPEN_TIME = 30_000;
+
+    /**
+     * The default maximum number of users cached per fetcher.
+     */
+    public static final int DEFAULT_CACHE_MAXIMUM_SIZE = 10_000;
+
+    /**
+     * The default milliseconds a persisted response is kept.
+     */
+    public static final long DEFAULT_DISK_CACHE_TTL = 3_600_000;
+
+    /**
+     * The default size in bytes of one segment file of the disk cache.
+     */
+    public static final int DEFAULT_DISK_CACHE_SEGMENT_SIZE = 64 << 20;
+
+    /**
+     * The default number of missing users expected to be remembered.
+     */
+    public static final int DEFAULT_NEGATIVE_CACHE_EXPECTED_SIZE = 100_000;
+
+    /**
+     * The default maximum number of names indexed per fetcher.
+     */
+    public static final int DEFAULT_NAME_INDEX_MAXIMUM_SIZE = 100_000;
+
+    /**
+     * The default milliseconds to wait for a new connection.
+     */
+    public static final long DEFAULT_CONNECT_TIMEOUT = 10_000;
+
+    /**
+     * The default milliseconds to wait while reading or writing.
+     */
+    public static final long DEFAULT_READ_WRITE_TIMEOUT = 30_000;
+
+    /**
+     * The default maximum number of idle connections kept open.
+     */
+    public static final int DEFAULT_MAX_IDLE_CONNECTIONS = 32;
+
+    /**
+     * The default milliseconds an idle connection is kept open.
+     */
+    public static final long DEFAULT_KEEP_ALIVE_TIME = 300_000;
+
+    private int maxConcurrentRequests = DEFAULT_MAX_CONCURRENT_REQUESTS;
+
+    private double requestsPerSecond;
+
+    private int requestBurst = DEFAULT_REQUEST_BURST;
+
+    @NotNull
+    private RetryPolicy retryPolicy = RetryPolicy.DEFAULT;
+
+    private int circuitBreakerThreshold = DEFAULT_CIRCUIT_BREAKER_THRESHOLD;
+
+    private long circuitBreakerOpenTime = DEFAULT_CIRCUIT_BREAKER_OPEN_TIME;
+
+    private long cacheTTL;
+
+    private int cacheMaximumSize = DEFAULT_CACHE_MAXIMUM_SIZE;
+
+    @Nullable
+    private File diskCacheDirectory;
+
+    private long diskCacheTTL = DEFAULT_DISK_CACHE_TTL;
+
+    private int diskCacheSegmentSize = DEFAULT_DISK_CACHE_SEGMENT_SIZE;
+
+    private long negativeCacheTTL;
+
+    private int negativeCacheExpectedSize = DEFAULT_NEGATIVE_CACHE_EXPECTED_SIZE;
+
+    private long nameIndexTTL;
+
+    private int nameIndexMaximumSize = DEFAULT_NAME_INDEX_MAXIMUM_SIZE;
+
+    private long connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+
+    private long readTimeout = DEFAULT_READ_WRITE_TIMEOUT;
+
+    private long writeTimeout = DEFAULT_READ_WRITE_TIMEOUT;
+
+    private int maxIdleConnections = DEFAULT_MAX_IDLE_CONNECTIONS;
+
+    private long keepAliveTime = DEFAULT_KEEP_ALIVE_TIME;
+
+    private boolean http2Preferred = true;
+
+    @Nullable
+    private Executor executor;
+
+    private boolean virtualThreads;
+
+    protected FetchConfig() {
+    }
+
+    @Override
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    /**
+     * Updates the maximum number of requests in flight at once.
+     *
+     * @param maxConcurrentRequests the new maximum, at least one
+     * @return this configuration instance
+     * @throws IllegalArgumentException - if the input is less than one.
+     */
+    public FetchConfig setMaxConcurrentRequests(int maxConcurrentRequests) {
+        Validate.isTrue(maxConcurrentRequests > 0,
+                "The maximum of concurrent requests must be positive.");
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        return this;
+    }
+
+    @Nullable
+    @Override
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Updates the executor that is running asynchronous fetches.
+     * <p>The executor is not shut down by this library, as its
+     * lifecycle belongs to the caller.
+     *
+     * @param executor the new executor, or null for the default pool
+     * @return this configuration instance
+     */
+    public FetchConfig setExecutor(@Nullable Executor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    @Override
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Updates whether asynchronous fetches should run on virtual threads.
+     * <p>Virtual threads are only used on Java 21 and above, while older
+     * versions fall back to the default pool. By default the pool of
+     * platform threads is used.
+     *
+     * @param virtualThreads whether virtual threads should be used
+     * @return this configuration instance
+     */
+    public FetchConfig setVirtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+        return this;
+    }
+
+    @Override
+    public double getRequestsPerSecond() {
+        return requestsPerSecond;
+    }
+
+    /**
+     * Updates the number of requests per second sent through a bridge.
+     * <p>By default requests are not rate limited.
+     *
+     * @param requestsPerSecond the new rate, or zero to disable the limit
+     * @return this configuration instance
+     */
+    public FetchConfig setRequestsPerSecond(double requestsPerSecond) {
+        this.requestsPerSecond = requestsPerSecond;
+        return this;
+    }
+
+    @Override
+    public int getRequestBurst() {
+        return requestBurst;
+    }
+
+    /**
+     * Updates the number of requests sent at once after being idle.
+     *
+     * @param requestBurst the new burst, at least one
+     * @return this configuration instance
+     * @throws IllegalArgumentException - if the input is less than one.
+     */
+    public FetchConfig setRequestBurst(int requestBurst) {
+        Validate.isTrue(requestBurst > 0, "The request burst must be positive.");
+        this.requestBurst = requestBurst;
+        return this;
+    }
+
+    @NotNull
+    @Override
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    /**
+     * Updates the policy describing whether and when failed requests
+     * are sent again.
+     *
+     * @param retryPolicy the new policy, e.g. {@link RetryPolicy#NONE}
+     * @return this configuration instance
+     * @throws NullPointerException - if the input is null.
+     */
+    public FetchConfig setRetryPolicy(@NotNull RetryPolicy retryPolicy) {
+        this.retryPolicy = Objects.requireNonNull(retryPolicy);
+        return this;
+    }
+
+    @Override
+    public int getCircuitBreakerThreshold() {
+        return circuitBreakerThreshold;
+    }
+
+    /**
+     * Updates the consecutive failures of a host that open its circuit.
+     *
+     * @param circuitBreakerThreshold the new threshold, or zero to disable
+     * @return this configuration instance
+     */
+    public FetchConfig setCircuitBreakerThreshold(int circuitBreakerThreshold) {
+        this.circuitBreakerThreshold = circuitBreakerThreshold;
+        return this;
+    }
+
+    @Override
+    public long getCircuitBreakerOpenTime() {
+        return circuitBreakerOpenTime;
+    }
+
+    /**
+     * Updates the milliseconds an opened circuit rejects requests.
+     *
+     * @param circuitBreakerOpenTime the new open time, must be positive
+     * @return this configuration instance
+     * @throws IllegalArgumentException - if the input is not positive.
+     */
+    public FetchConfig setCircuitBreakerOpenTime(long circuitBreakerOpenTime) {
+        Validate.isTrue(circuitBreakerOpenTime > 0, "The open time must be positive.");
+        this.circuitBreakerOpenTime = circuitBreakerOpenTime;
+        return this;
+    }
+
+    @Override
+    public long getCacheTTL() {
+        return cacheTTL;
+    }
+
+    /**
+     * Updates the milliseconds a fetched user is cached.
+     * <p>By default users are not cached.
+     *
+     * @param cacheTTL the new time to live, or zero to disable the cache
+     * @return this configuration instance
+     */
+    public FetchConfig setCacheTTL(long cacheTTL) {
+        this.cacheTTL = cacheTTL;
+        return this;
+    }
+
+    @Override
+    public int getCacheMaximumSize() {
+        return cacheMaximumSize;
+    }
+
+    /**
+     * Updates the maximum number of users cached per fetcher.
+     *
+     * @param cacheMaximumSize the new maximum, at least one
+     * @return this configuration instance
+     * @throws IllegalArgumentException - if the input is less than one.
+     */
+    public FetchConfig setCacheMaximumSize(int cacheMaximumSize) {
+        Validate.isTrue(cacheMaximumSize > 0, "The maximum cache size must be positive.");
+        this.cacheMaximumSize = cacheMaximumSize;
+        return this;
+    }
+
+    @Nullable
+    @Override
+    public File getDiskCacheDirectory() {
+        return diskCacheDirectory;
+    }
+
+    /**
+     * Updates the directory raw responses are persisted in.
+     * <p>By default responses are not persisted.
+     *
+     * @param diskCacheDirectory the new directory, or null to disable the
+     *                           disk cache
+     * @return this configuration instance
+     */
+    public FetchConfig setDiskCacheDirectory(@Nullable File diskCacheDirectory) {
+        this.diskCacheDirectory = diskCacheDirectory;
+        return this;
+    }
+
+    @Override
+    public long getDiskCacheTTL() {
+        return diskCacheTTL;
+    }
+
+    /**
+     * Updates the milliseconds a persisted response is kept.
+     *
+     * @param diskCacheTTL the new time to live
+     * @return this configuration instance
+     * @throws IllegalArgumentException - if the input is not positive.
+     */
+    public FetchConfig setDiskCacheTTL(long diskCacheTTL) {
+        Validate.isTrue(diskCacheTTL > 0, "The time to live must be positive.");
+        this.diskCacheTTL = diskCacheTTL;
+        return this;
+    }
+
+    @Override
+    public int getDiskCacheSegmentSize() {
+        return diskCacheSegmentSize;
+    }
+
+    /**
+     * Updates the size in bytes of one segment file of the disk cache.
+     * Responses bigger than one segment are not persisted.
+     *
+     * @param diskCacheSegmentSize the new segment size
+     * @return this configuration instance
+     * @throws IllegalArgumentException - if the input is less than 1024.
+     */
+    public FetchConfig setDiskCacheSegmentSize(int diskCacheSegmentSize) {
+        Validate.isTrue(diskCacheSegmentSize >= 1024, "The segment size must be at least 1024.");
+        this.diskCacheSegmentSize = diskCacheSegmentSize;
+        return this;
+    }
+
+    @Override
+    public long getNegativeCacheTTL() {
+        return negativeCacheTTL;
+    }
+
+    /**
+     * Updates the milliseconds a user that does not exist is remembered.
+     * <p>By default missing users are not remembered.
+     *
+     * @param negativeCacheTTL the new time to live, or zero to disable
+     *                         the negative cache
+     * @return this configuration instance
+     */
+    public FetchConfig setNegativeCacheTTL(long negativeCacheTTL) {
+        this.negativeCacheTTL = negativeCacheTTL;
+        return this;
+    }
+
+    @Override
+    public int getNegativeCacheExpectedSize() {
+        return negativeCacheExpectedSize;
+    }
+
+    /**
+     * Updates the number of missing users expected to be remembered.
+     *
+     * @param negativeCacheExpectedSize the new expected size, at least one
+     * @return this configuration instance
+     * @throws IllegalArgumentException - if the input is less than one.
+     */
+    public FetchConfig setNegativeCacheExpectedSize(int negativeCacheExpectedSize) {
+        Validate.isTrue(negativeCacheExpectedSize > 0, "The expected size must be positive.");
+        this.negativeCacheExpectedSize = negativeCacheExpectedSize;
+        return this;
+    }
+
+    @Override
+    public long getNameIndexTTL() {
+        return nameIndexTTL;
+    }
+
+    /**
+     * Updates the milliseconds the names of a fetched user are resolved
+     * to its ID locally.
+     * <p>By default names are not indexed.
+     *
+     * @param nameIndexTTL the new time to live, or zero to disable the index
+     * @return this configuration instance
+     */
+    public FetchConfig setNameIndexTTL(long nameIndexTTL) {
+        this.nameIndexTTL = nameIndexTTL;
+        return this;
+    }
+
+    @Override
+    public int getNameIndexMaximumSize() {
+        return nameIndexMaximumSize;
+    }
+
+    /**
+     * Updates the maximum number of names indexed per fetcher.
+     *
+     * @param nameIndexMaximumSize the new maximum, at least one
+     * @return this configuration instance
+     * @throws IllegalArgumentException - if the input is less than one.
+     */
+    public FetchConfig setNameIndexMaximumSize(int nameIndexMaximumSize) {
+        Validate.isTrue(nameIndexMaximumSize > 0, "The maximum index size must be positive.");
+        this.nameIndexMaximumSize = nameIndexMaximumSize;
+        return this;
+    }
+
+    @Override
+    public long getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    /**
+     * Updates the milliseconds to wait for a new connection.
+     *
+     * @param connectTimeout the new timeout
+     * @return this configuration instance
+     * @throws IllegalArgumentException - if the input is not positive.
+     */
+    public FetchConfig setConnectTimeout(long connectTimeout) {
+        Validate.isTrue(connectTimeout > 0, "The timeout must be positive.");
+        this.connectTimeout = connectTimeout;
+        return this;
+    }
+
+    @Override
+    public long getReadTimeout() {
+        return readTimeout;
+    }
+
+    /**
+     * Updates the milliseconds to wait for data while reading a response.
+     *
+     * @param readTimeout the new timeout
+     * @return this configuration instance
+     * @throws IllegalArgumentException - if the input is not positive.
+     */
+    public FetchConfig setReadTimeout(long readTimeout) {
+        Validate.isTrue(readTimeout > 0, "The timeout must be positive.");
+        this.readTimeout = readTimeout;
+        return this;
+    }
+
+    @Override
+    public long getWriteTimeout() {
+        return writeTimeout;
+    }
+
+    /**
+     * Updates the milliseconds to wait while writing a request.
+     *
+     * @param writeTimeout the new timeout
+     * @return this configuration instance
+     * @throws IllegalArgumentException - if the input is not positive.
+     */
+    public FetchConfig setWriteTimeout(long writeTimeout) {
+        Validate.isTrue(writeTimeout > 0, "The timeout must be positive.");
+        this.writeTimeout = writeTimeout;
+        return this;
+    }
+
+    @Override
+    public int getMaxIdleConnections() {
+        return maxIdleConnections;
+    }
+
+    /**
+     * Updates the maximum number of idle connections kept open for reuse.
+     *
+     * @param maxIdleConnections the new maximum
+     * @return this configuration instance
+     * @throws IllegalArgumentException - if the input is not positive.
+     */
+    public FetchConfig setMaxIdleConnections(int maxIdleConnections) {
+        Validate.isTrue(maxIdleConnections > 0, "The maximum must be positive.");
+        this.maxIdleConnections = maxIdleConnections;
+        return this;
+    }
+
+    @Override
+    public long getKeepAliveTime() {
+        return keepAliveTime;
+    }
+
+    /**
+     * Updates the milliseconds an idle connection is kept open for reuse.
+     *
+     * @param keepAliveTime the new keep alive time
+     * @return this configuration instance
+     * @throws IllegalArgumentException - if the input is not positive.
+     */
+    public FetchConfig setKeepAliveTime(long keepAliveTime) {
+        Validate.isTrue(keepAliveTime > 0, "The keep alive time must be positive.");
+        this.keepAliveTime = keepAliveTime;
+        return this;
+    }
+
+    @Override
+    public boolean isHttp2Preferred() {
+        return http2Preferred;
+    }
+
+    /**
+     * Updates whether HTTP/2 is preferred over HTTP/1.1.
+     * <p>By default HTTP/2 is preferred.
+     *
+     * @param http2Preferred whether HTTP/2 is preferred
+     * @return this configuration instance
+     */
+    public FetchConfig setHttp2Preferred(boolean http2Preferred) {
+        this.http2Preferred = http2Preferred;
+        return this;
+    }
+
+    /**
+     * Creates a new {@link FetchConfig} containing the default values.
+     *
+     * @return a new configuration instance.
+     */
+    public static FetchConfig create() {
+        return new FetchConfig();
+    }
+
+    /**
+     * Returns an immutable copy of the input {@code config}, so mutating
+     * the {@code config} afterwards has no effect on the copy.
+     *
+     * @param config the configuration to copy
+     * @return a new immutable configuration with the values of {@code config}.
+     * @throws IllegalArgumentException - if a value of the {@code config} is
+     * out of the range accepted by the setters of a {@link FetchConfig}.
+     * @since 1.0-0.3
+     */
+    @NotNull
+    public static IFetchConfig snapshotOf(@NotNull IFetchConfig config) {
+        Objects.requireNonNull(config);
+        return new Snapshot(config);
+    }
+
+    /**
+     * Immutable copy of the values of an {@link IFetchConfig}.
+     */
+    private static final class Snapshot implements IFetchConfig {
+
+        private final int maxConcurrentRequests;
+
+        @Nullable
+        private final Executor executor;
+
+        private final boolean virtualThreads;
+
+        private final double requestsPerSecond;
+
+        private final int requestBurst;
+
+        @NotNull
+        private final RetryPolicy retryPolicy;
+
+        private final int circuitBreakerThreshold;
+
+        private final long circuitBreakerOpenTime;
+
+        private final long cacheTTL;
+
+        private final int cacheMaximumSize;
+
+        @Nullable
+        private final File diskCacheDirectory;
+
+        private final long diskCacheTTL;
+
+        private final int diskCacheSegmentSize;
+
+        private final long negativeCacheTTL;
+
+        private final int negativeCacheExpectedSize;
+
+        private final long nameIndexTTL;
+
+        private final int nameIndexMaximumSize;
+
+        private final long connectTimeout;
+
+        private final long readTimeout;
+
+        private final long writeTimeout;
+
+        private final int maxIdleConnections;
+
+        private final long keepAliveTime;
+
+        private final boolean http2Preferred;
+
+        private Snapshot(@NotNull IFetchConfig config) {
+            this.maxConcurrentRequests = config.getMaxConcurrentRequests();
+            this.executor = config.getExecutor();
+            this.virtualThreads = config.isVirtualThreads();
+            this.requestsPerSecond = config.getRequestsPerSecond();
+            this.requestBurst = config.getRequestBurst();
+            this.retryPolicy = Objects.requireNonNull(config.getRetryPolicy());
+            this.circuitBreakerThreshold = config.getCircuitBreakerThreshold();
+            this.circuitBreakerOpenTime = config.getCircuitBreakerOpenTime();
+            this.cacheTTL = config.getCacheTTL();
+            this.cacheMaximumSize = config.getCacheMaximumSize();
+            this.diskCacheDirectory = config.getDiskCacheDirectory();
+            this.diskCacheTTL = config.getDiskCacheTTL();
+            this.diskCacheSegmentSize = config.getDiskCacheSegmentSize();
+            this.negativeCacheTTL = config.getNegativeCacheTTL();
+            this.negativeCacheExpectedSize = config.getNegativeCacheExpectedSize();
+            this.nameIndexTTL = config.getNameIndexTTL();
+            this.nameIndexMaximumSize = config.getNameIndexMaximumSize();
+            this.connectTimeout = config.getConnectTimeout();
+            this.readTimeout = config.getReadTimeout();
+            this.writeTimeout = config.getWriteTimeout();
+            this.maxIdleConnections = config.getMaxIdleConnections();
+            this.keepAliveTime = config.getKeepAliveTime();
+            this.http2Preferred = config.isHttp2Preferred();
+            //Apply the checks of the setters to configurations of any kind
+            Validate.isTrue(maxConcurrentRequests > 0,
+                    "The maximum of concurrent requests must be positive.");
+            Validate.isTrue(requestBurst > 0, "The request burst must be positive.");
+            Validate.isTrue(circuitBreakerOpenTime > 0, "The open time must be positive.");
+            Validate.isTrue(cacheMaximumSize > 0, "The maximum cache size must be positive.");
+            Validate.isTrue(diskCacheTTL > 0, "The time to live must be positive.");
+            Validate.isTrue(diskCacheSegmentSize >= 1024, "The segment size must be at least 1024.");
+            Validate.isTrue(negativeCacheExpectedSize > 0, "The expected size must be positive.");
+            Validate.isTrue(nameIndexMaximumSize > 0, "The maximum index size must be positive.");
+            Validate.isTrue(connectTimeout > 0, "The timeout must be positive.");
+            Validate.isTrue(readTimeout > 0, "The timeout must be positive.");
+            Validate.isTrue(writeTimeout > 0, "The timeout must be positive.");
+            Validate.isTrue(maxIdleConnections > 0, "The maximum must be positive.");
+            Validate.isTrue(keepAliveTime > 0, "The keep alive time must be positive.");
+        }
+
+        @Override
+        public int getMaxConcurrentRequests() {
+            return maxConcurrentRequests;
+        }
+
+        @Nullable
+        @Override
+        public Executor getExecutor() {
+            return executor;
+        }
+
+        @Override
+        public boolean isVirtualThreads() {
+            return virtualThreads;
+        }
+
+        @Override
+        public double getRequestsPerSecond() {
+            return requestsPerSecond;
+        }
+
+        @Override
+        public int getRequestBurst() {
+            return requestBurst;
+        }
+
+        @NotNull
+        @Override
+        public RetryPolicy getRetryPolicy() {
+            return retryPolicy;
+        }
+
+        @Override
+        public int getCircuitBreakerThreshold() {
+            return circuitBreakerThreshold;
+        }
+
+        @Override
+        public long getCircuitBreakerOpenTime() {
+            return circuitBreakerOpenTime;
+        }
+
+        @Override
+        public long getCacheTTL() {
+            return cacheTTL;
+        }
+
+        @Override
+        public int getCacheMaximumSize() {
+            return cacheMaximumSize;
+        }
+
+        @Nullable
+        @Override
+        public File getDiskCacheDirectory() {
+            return diskCacheDirectory;
+        }
+
+        @Override
+        public long getDiskCacheTTL() {
+            return diskCacheTTL;
+        }
+
+        @Override
+        public int getDiskCacheSegmentSize() {
+            return diskCacheSegmentSize;
+        }
+
+        @Override
+        public long getNegativeCacheTTL() {
+            return negativeCacheTTL;
+        }
+
+        @Override
+        public int getNegativeCacheExpectedSize() {
+            return negativeCacheExpectedSize;
+        }
+
+        @Override
+        public long getNameIndexTTL() {
+            return nameIndexTTL;
+        }
+
+        @Override
+        public int getNameIndexMaximumSize() {
+            return nameIndexMaximumSize;
+        }
+
+        @Override
+        public long getConnectTimeout() {
+            return connectTimeout;
+        }
+
+        @Override
+        public long getReadTimeout() {
+            return readTimeout;
+        }
+
+        @Override
+        public long getWriteTimeout() {
+            return writeTimeout;
+        }
+
+        @Override
+        public int getMaxIdleConnections() {
+            return maxIdleConnections;
+        }
+
+        @Override
+        public long getKeepAliveTime() {
+            return keepAliveTime;
+        }
+
+        @Override
+        public boolean isHttp2Preferred() {
+            return http2Preferred;
+        }
+
+    }
+
+}
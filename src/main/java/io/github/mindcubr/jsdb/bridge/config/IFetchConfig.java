@@ -0,0 +1,177 @@
+package io.github.mindcubr.jsdb.bridge.config;
+
+import io.github.mindcubr.jsdb.bridge.CircuitBreaker;
+import io.github.mindcubr.jsdb.bridge.DBBridge;
+import io.github.mindcubr.jsdb.bridge.FetchExecutors;
+import io.github.mindcubr.jsdb.bridge.RetryPolicy;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.util.concurrent.Executor;
+
+/**
+ * Configuration that describes how a {@link DBBridge} and the
+ * fetchers connected to it are sending their requests, so for example
+ * how many requests may be in flight at the same time.
+ * <p>This configuration is independent from the {@link IBridgeConfig},
+ * that contains sensitive data such as the token, and only contains
+ * tuning values that have sensible defaults.
+ *
+ * @author mindcubr
+ * @see FetchConfig
+ * @since 1.0-0.3
+ */
+public interface IFetchConfig {
+
+    /**
+     * Returns the maximum number of requests that are allowed to be
+     * in flight at the same time through one {@link DBBridge}.
+     * <p>Additional requests wait until a running request has finished.
+     */
+    int getMaxConcurrentRequests();
+
+    /**
+     * Returns the executor that is running asynchronous fetches,
+     * or null if the {@link DBBridge} should create its own pool
+     * of {@link #getMaxConcurrentRequests()} daemon threads.
+     */
+    @Nullable
+    Executor getExecutor();
+
+    /**
+     * Returns whether the {@link DBBridge} should run asynchronous fetches
+     * on virtual threads instead of its own pool of platform threads, if
+     * the running Java version supports them and no
+     * {@link #getExecutor() executor} is given.
+     *
+     * @see FetchExecutors#isVirtualThreadSupported()
+     */
+    boolean isVirtualThreads();
+
+    /**
+     * Returns the number of requests per second that may be sent
+     * through one {@link DBBridge}, or zero or less if the requests
+     * should not be rate limited.
+     */
+    double getRequestsPerSecond();
+
+    /**
+     * Returns the number of requests that may be sent at once after
+     * the {@link DBBridge} was idle, before the rate of
+     * {@link #getRequestsPerSecond()} applies.
+     */
+    int getRequestBurst();
+
+    /**
+     * Returns the policy describing whether and when failed requests
+     * are sent again.
+     */
+    @NotNull
+    RetryPolicy getRetryPolicy();
+
+    /**
+     * Returns the number of consecutive failures of a host after which
+     * its {@link CircuitBreaker} is opened, or zero or less if no circuit
+     * breaker should be used.
+     */
+    int getCircuitBreakerThreshold();
+
+    /**
+     * Returns the milliseconds an opened {@link CircuitBreaker} rejects
+     * requests before a trial request is let through.
+     */
+    long getCircuitBreakerOpenTime();
+
+    /**
+     * Returns the milliseconds a fetched user is cached and returned
+     * without a request, or zero or less if users should not be cached.
+     */
+    long getCacheTTL();
+
+    /**
+     * Returns the maximum number of users cached per fetcher, after which
+     * the least recently used users are evicted.
+     */
+    int getCacheMaximumSize();
+
+    /**
+     * Returns the directory raw responses are persisted in, so they
+     * survive restarts, or null if responses should not be persisted.
+     */
+    @Nullable
+    File getDiskCacheDirectory();
+
+    /**
+     * Returns the milliseconds a persisted response is kept.
+     * <p>A persisted response is only returned without a request within
+     * the {@link #getCacheTTL() cache TTL}, e.g. after a restart. Until it
+     * expires, it is returned if requests fail, e.g. while the host is down.
+     */
+    long getDiskCacheTTL();
+
+    /**
+     * Returns the size in bytes of one segment file of the disk cache.
+     */
+    int getDiskCacheSegmentSize();
+
+    /**
+     * Returns the milliseconds a user that does not exist is remembered,
+     * so that lookups of it fail without a request, or zero or less if
+     * missing users should not be remembered.
+     */
+    long getNegativeCacheTTL();
+
+    /**
+     * Returns the number of missing users expected to be remembered at
+     * once, which sizes the negative cache.
+     */
+    int getNegativeCacheExpectedSize();
+
+    /**
+     * Returns the milliseconds the name and former names of a fetched
+     * user are resolved to its ID locally, or zero or less if names should
+     * always be searched.
+     */
+    long getNameIndexTTL();
+
+    /**
+     * Returns the maximum number of names indexed per fetcher.
+     */
+    int getNameIndexMaximumSize();
+
+    /**
+     * Returns the milliseconds the HTTP client of the {@link DBBridge}
+     * waits for a new connection to be established.
+     */
+    long getConnectTimeout();
+
+    /**
+     * Returns the milliseconds the HTTP client of the {@link DBBridge}
+     * waits for data while reading a response.
+     */
+    long getReadTimeout();
+
+    /**
+     * Returns the milliseconds the HTTP client of the {@link DBBridge}
+     * waits while writing a request.
+     */
+    long getWriteTimeout();
+
+    /**
+     * Returns the maximum number of idle connections kept open for reuse.
+     */
+    int getMaxIdleConnections();
+
+    /**
+     * Returns the milliseconds an idle connection is kept open for reuse.
+     */
+    long getKeepAliveTime();
+
+    /**
+     * Returns whether HTTP/2 is preferred, so that requests to one host
+     * are multiplexed over one connection if the server supports it.
+     */
+    boolean isHttp2Preferred();
+
+}
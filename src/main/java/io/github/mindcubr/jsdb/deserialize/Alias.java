@@ -1,8 +1,14 @@
 package io.github.mindcubr.jsdb.deserialize;
 
+import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
 import java.util.Date;
 import java.util.Objects;
 
@@ -29,6 +35,23 @@ public class Alias {
 
     private long timestamp;
 
+    public Alias() {
+    }
+
+    /**
+     * Creates a new alias with the input {@code name}, that has changed
+     * at the {@code timestamp}.
+     *
+     * @param name      the name of the alias, or null if unknown
+     * @param timestamp the time when the alias has changed in
+     *                  <b>Unix time seconds</b>
+     * @since 1.0-0.3
+     */
+    public Alias(@Nullable String name, long timestamp) {
+        this.name = name;
+        this.timestamp = timestamp;
+    }
+
     /**
      * Returns the name of this alias.
      *
@@ -39,6 +62,16 @@ public class Alias {
         return Objects.requireNonNull(name);
     }
 
+    /**
+     * Returns whether this alias has a nickname defined, so that
+     * {@link #getName()} does not throw.
+     *
+     * @since 1.0-0.3
+     */
+    public boolean hasName() {
+        return name != null;
+    }
+
     /**
      * Returns the time when the alias has changed to
      * something different in <b>Unix time seconds</b>.
@@ -67,4 +100,49 @@ public class Alias {
                 '}';
     }
 
+    /**
+     * Reflection-free {@link TypeAdapter} of an {@link Alias}.
+     *
+     * @since 1.0-0.3
+     */
+    public static final class Adapter extends TypeAdapter<Alias> {
+
+        @Override
+        public void write(JsonWriter out, Alias value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("nickname").value(value.name);
+            out.name("timestamp").value(value.timestamp);
+            out.endObject();
+        }
+
+        @Override
+        public Alias read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            Alias alias = new Alias();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "nickname":
+                        alias.name = JsonUtils.nextString(in);
+                        break;
+                    case "timestamp":
+                        alias.timestamp = JsonUtils.nextLong(in);
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return alias;
+        }
+
+    }
+
 }
@@ -0,0 +1,104 @@
+package io.github.mindcubr.jsdb.deserialize;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+/**
+ * Utilities used by the hand-written type adapters to read primitive
+ * values as leniently as the reflective deserialization of <em>Gson</em>
+ * does; so for example a {@code null} value is read as the default
+ * value of a primitive and a boolean is accepted for a string.
+ *
+ * @author mindcubr
+ * @since 1.0-0.3
+ */
+public final class JsonUtils {
+
+    private JsonUtils() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Reads the next value as a string, or null if the value is null.
+     * <p>Booleans and numbers are returned in their string form, as the
+     * <em>statsdb</em> API returns e.g. <em>false</em> for unknown strings.
+     *
+     * @param in the reader to read from
+     * @throws IOException - if the next value is no primitive.
+     */
+    public static String nextString(@NotNull JsonReader in) throws IOException {
+        JsonToken token = in.peek();
+        if (token == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        if (token == JsonToken.BOOLEAN)
+            return Boolean.toString(in.nextBoolean());
+        return in.nextString();
+    }
+
+    /**
+     * Reads the next value as an integer, or zero if the value is null.
+     *
+     * @param in the reader to read from
+     * @throws IOException - if the next value is no integer.
+     */
+    public static int nextInt(@NotNull JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return 0;
+        }
+        return in.nextInt();
+    }
+
+    /**
+     * Reads the next value as a long, or zero if the value is null.
+     *
+     * @param in the reader to read from
+     * @throws IOException - if the next value is no long.
+     */
+    public static long nextLong(@NotNull JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return 0L;
+        }
+        return in.nextLong();
+    }
+
+    /**
+     * Reads the next value as a double, or zero if the value is null.
+     *
+     * @param in the reader to read from
+     * @throws IOException - if the next value is no double.
+     */
+    public static double nextDouble(@NotNull JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return 0D;
+        }
+        return in.nextDouble();
+    }
+
+    /**
+     * Reads the next value as a boolean, or false if the value is null.
+     * <p>Strings are accepted and parsed using
+     * {@link Boolean#parseBoolean(String)}.
+     *
+     * @param in the reader to read from
+     * @throws IOException - if the next value is no boolean.
+     */
+    public static boolean nextBoolean(@NotNull JsonReader in) throws IOException {
+        JsonToken token = in.peek();
+        if (token == JsonToken.NULL) {
+            in.nextNull();
+            return false;
+        }
+        if (token == JsonToken.STRING)
+            return Boolean.parseBoolean(in.nextString());
+        return in.nextBoolean();
+    }
+
+}
@@ -36,4 +36,38 @@ public class User {
         return Objects.requireNonNull(name);
     }
 
+    /**
+     * Returns whether this user has a nickname defined, so that
+     * {@link #getName()} does not throw.
+     *
+     * @since 1.0-0.3
+     */
+    public boolean hasName() {
+        return name != null;
+    }
+
+    /**
+     * Updates the user ID of this user instance.
+     *
+     * @param id the new user ID
+     * @apiNote Used by the hand-written type adapters, so the
+     * deserialization does not have to use reflections.
+     * @since 1.0-0.3
+     */
+    protected void setID(String id) {
+        this.id = id;
+    }
+
+    /**
+     * Updates the nickname of this user.
+     *
+     * @param name the new nickname
+     * @apiNote Used by the hand-written type adapters, so the
+     * deserialization does not have to use reflections.
+     * @since 1.0-0.3
+     */
+    protected void setName(String name) {
+        this.name = name;
+    }
+
 }
@@ -0,0 +1,570 @@
+package io.github.mindcubr.jsdb.deserialize.siege;
+
+import io.github.mindcubr.jsdb.deserialize.siege.SiegeStatsField.Section;
+import io.github.mindcubr.jsdb.deserialize.siege.SiegeStatsField.Type;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Flat representation of {@link SiegeStats}, storing all fields of the
+ * tree in one {@code int} array instead of six objects, so that a huge
+ * number of cached statistics takes a fraction of the heap and of the
+ * time the garbage collector spends marking them.
+ * <p>Every {@link SiegeStatsField} occupies one slot, or two slots if it is
+ * a {@link Type#LONG long} or {@link Type#DOUBLE double}. A leading slot
+ * keeps which subtrees exist, so the accessors return null for missing
+ * subtrees just like the getters of {@link SiegeStats}. The slots can be
+ * part of a bigger array shared by many statistics, see {@link #write}
+ * and {@link #wrap}.
+ * <p>The subtrees are returned as views with the same getters as their
+ * {@link SiegeStats} counterparts, reading the slots on every call.
+ * Flat statistics are immutable, as long as their slots are not changed.
+ *
+ * @author mindcubr
+ * @since 1.0-0.3
+ */
+public final class FlatSiegeStats {
+
+    /**
+     * The bit in the leading slot that marks the seasonal subtree, which
+     * has no section of its own.
+     */
+    private static final int SEASONAL_BIT = 1 << Section.values().length;
+
+    /**
+     * The slot of each field relative to the leading slot, indexed by
+     * the ordinal of the field.
+     */
+    private static final int[] SLOTS = new int[SiegeStatsField.count()];
+
+    /**
+     * The number of slots of one flat statistics.
+     */
+    private static final int SLOT_COUNT;
+
+    static {
+        int slot = 1;
+        for (int i = 0; i < SLOTS.length; i++) {
+            SLOTS[i] = slot;
+            Type type = SiegeStatsField.of(i).getType();
+            slot += type == Type.LONG || type == Type.DOUBLE ? 2 : 1;
+        }
+        SLOT_COUNT = slot;
+    }
+
+    @NotNull
+    private final int[] slots;
+
+    /**
+     * The index of the leading slot within the {@link #slots}.
+     */
+    private final int offset;
+
+    private FlatSiegeStats(@NotNull int[] slots, int offset) {
+        this.slots = slots;
+        this.offset = offset;
+    }
+
+    /**
+     * Returns whether the subtree of the input {@code section} exists.
+     *
+     * @param section the section of the subtree
+     */
+    public boolean has(@NotNull Section section) {
+        return (slots[offset] & (1 << section.ordinal())) != 0;
+    }
+
+    /**
+     * Returns the value of the input {@code field}, represented as
+     * described in {@link SiegeStatsField}.
+     *
+     * @param field the field to read
+     * @return the value, or {@code 0} if its subtree is missing.
+     */
+    public long get(@NotNull SiegeStatsField field) {
+        return get(field.ordinal());
+    }
+
+    /**
+     * Returns the value of the input {@code field} as a {@code double},
+     * decoding the raw bits of {@link Type#DOUBLE} fields.
+     *
+     * @param field the field to read
+     */
+    public double getDouble(@NotNull SiegeStatsField field) {
+        return field.toDouble(get(field));
+    }
+
+    /**
+     * The seasonal statistics, or null if missing.
+     *
+     * @see SiegeStats#getSeasonal()
+     */
+    @Nullable
+    public SeasonalData getSeasonal() {
+        return (slots[offset] & SEASONAL_BIT) != 0 ? new SeasonalData(this) : null;
+    }
+
+    /**
+     * The general statistics, or null if missing.
+     *
+     * @see SiegeStats#getGeneral()
+     */
+    @Nullable
+    public General getGeneral() {
+        return has(Section.GENERAL) ? new General(this) : null;
+    }
+
+    /**
+     * The progression statistics, or null if missing.
+     *
+     * @see SiegeStats#getProgression()
+     */
+    @Nullable
+    public Progression getProgression() {
+        return has(Section.PROGRESSION) ? new Progression(this) : null;
+    }
+
+    /**
+     * The shared Ranked statistics, or null if missing.
+     *
+     * @see SiegeStats#getRanked()
+     */
+    @Nullable
+    public Shared getRanked() {
+        return has(Section.RANKED) ? new Shared(this, SiegeStatsField.RANKED_KILLS) : null;
+    }
+
+    /**
+     * The shared Casual statistics, or null if missing.
+     *
+     * @see SiegeStats#getCasual()
+     */
+    @Nullable
+    public Shared getCasual() {
+        return has(Section.CASUAL) ? new Shared(this, SiegeStatsField.CASUAL_KILLS) : null;
+    }
+
+    /**
+     * Returns a copy of the slots of these statistics.
+     */
+    @NotNull
+    public int[] toArray() {
+        return Arrays.copyOfRange(slots, offset, offset + SLOT_COUNT);
+    }
+
+    private int getInt(int ordinal) {
+        return slots[offset + SLOTS[ordinal]];
+    }
+
+    private long get(int ordinal) {
+        int index = offset + SLOTS[ordinal];
+        Type type = SiegeStatsField.of(ordinal).getType();
+        if (type != Type.LONG && type != Type.DOUBLE)
+            return slots[index];
+        return ((long) slots[index] << 32) | (slots[index + 1] & 0xFFFFFFFFL);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof FlatSiegeStats)) return false;
+        FlatSiegeStats that = (FlatSiegeStats) o;
+        for (int i = 0; i < SLOT_COUNT; i++) {
+            if (slots[offset + i] != that.slots[that.offset + i])
+                return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < SLOT_COUNT; i++) {
+            hash = 31 * hash + slots[offset + i];
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("FlatSiegeStats{");
+        for (int i = 0; i < SLOTS.length; i++) {
+            SiegeStatsField field = SiegeStatsField.of(i);
+            if (!has(field.getSection()))
+                continue;
+            if (builder.length() > 15)
+                builder.append(", ");
+            builder.append(field).append('=');
+            if (field.getType() == Type.DOUBLE)
+                builder.append(getDouble(field));
+            else
+                builder.append(get(i));
+        }
+        return builder.append('}').toString();
+    }
+
+    /**
+     * Returns the number of {@code int} slots one flat statistics occupy.
+     */
+    public static int slotCount() {
+        return SLOT_COUNT;
+    }
+
+    /**
+     * Writes the input {@code stats} into the {@link #slotCount()} slots
+     * of the {@code target}, starting at the {@code offset}.
+     *
+     * @param stats  the statistics to write, or null if all subtrees are missing
+     * @param target the array to write into
+     * @param offset the index of the first slot to write
+     * @throws IndexOutOfBoundsException - if the {@code target} is too small.
+     */
+    public static void write(@Nullable SiegeStats stats, @NotNull int[] target, int offset) {
+        Objects.requireNonNull(target);
+        if (offset < 0 || offset > target.length - SLOT_COUNT)
+            throw new IndexOutOfBoundsException("Offset " + offset + " of " + target.length);
+        Arrays.fill(target, offset, offset + SLOT_COUNT, 0);
+        if (stats == null)
+            return;
+        int presence = 0;
+        if (stats.getSeasonal() != null) {
+            presence |= SEASONAL_BIT;
+            if (stats.getSeasonal().getRanked() != null)
+                presence |= 1 << Section.SEASONAL_RANKED.ordinal();
+            if (stats.getSeasonal().getCasual() != null)
+                presence |= 1 << Section.SEASONAL_CASUAL.ordinal();
+        }
+        if (stats.getGeneral() != null)
+            presence |= 1 << Section.GENERAL.ordinal();
+        if (stats.getRanked() != null)
+            presence |= 1 << Section.RANKED.ordinal();
+        if (stats.getCasual() != null)
+            presence |= 1 << Section.CASUAL.ordinal();
+        if (stats.getProgression() != null)
+            presence |= 1 << Section.PROGRESSION.ordinal();
+        target[offset] = presence;
+        for (int i = 0; i < SLOTS.length; i++) {
+            SiegeStatsField field = SiegeStatsField.of(i);
+            if ((presence & (1 << field.getSection().ordinal())) == 0)
+                continue;
+            long value = field.get(stats);
+            int index = offset + SLOTS[i];
+            if (field.getType() == Type.LONG || field.getType() == Type.DOUBLE) {
+                target[index] = (int) (value >>> 32);
+                target[index + 1] = (int) value;
+            } else {
+                target[index] = (int) value;
+            }
+        }
+    }
+
+    /**
+     * Creates flat statistics containing the values of the input {@code stats}.
+     *
+     * @param stats the statistics to flatten, or null if all subtrees are missing
+     * @return new flat statistics.
+     */
+    @NotNull
+    public static FlatSiegeStats of(@Nullable SiegeStats stats) {
+        int[] slots = new int[SLOT_COUNT];
+        write(stats, slots, 0);
+        return new FlatSiegeStats(slots, 0);
+    }
+
+    /**
+     * Creates flat statistics reading the slots of the {@code slots} array,
+     * starting at the {@code offset}, without copying them.
+     *
+     * @param slots  the slots previously {@link #write written}
+     * @param offset the index of the first slot
+     * @return new flat statistics backed by the input {@code slots}.
+     * @throws IndexOutOfBoundsException - if the {@code slots} are too small.
+     */
+    @NotNull
+    public static FlatSiegeStats wrap(@NotNull int[] slots, int offset) {
+        Objects.requireNonNull(slots);
+        if (offset < 0 || offset > slots.length - SLOT_COUNT)
+            throw new IndexOutOfBoundsException("Offset " + offset + " of " + slots.length);
+        return new FlatSiegeStats(slots, offset);
+    }
+
+    /**
+     * View of the seasonal statistics.
+     *
+     * @see SiegeStats.SeasonalData
+     */
+    public static final class SeasonalData {
+
+        @NotNull
+        private final FlatSiegeStats stats;
+
+        private SeasonalData(@NotNull FlatSiegeStats stats) {
+            this.stats = stats;
+        }
+
+        /**
+         * Seasonal "Ranked" game mode statistics, or null if missing.
+         */
+        @Nullable
+        public Seasonal getRanked() {
+            return stats.has(Section.SEASONAL_RANKED)
+                    ? new Seasonal(stats, SiegeStatsField.SEASONAL_RANKED_KILLS) : null;
+        }
+
+        /**
+         * Seasonal "Casual" game mode statistics, or null if missing.
+         */
+        @Nullable
+        public Seasonal getCasual() {
+            return stats.has(Section.SEASONAL_CASUAL)
+                    ? new Seasonal(stats, SiegeStatsField.SEASONAL_CASUAL_KILLS) : null;
+        }
+
+    }
+
+    /**
+     * View of the progression statistics.
+     *
+     * @see SiegeStats.Progression
+     */
+    public static final class Progression {
+
+        @NotNull
+        private final FlatSiegeStats stats;
+
+        private Progression(@NotNull FlatSiegeStats stats) {
+            this.stats = stats;
+        }
+
+        public int getLevel() {
+            return stats.getInt(SiegeStatsField.PROGRESSION_LEVEL.ordinal());
+        }
+
+        public int getChance() {
+            return stats.getInt(SiegeStatsField.PROGRESSION_LOOTBOX_CHANCE.ordinal());
+        }
+
+        public int getXP() {
+            return stats.getInt(SiegeStatsField.PROGRESSION_XP.ordinal());
+        }
+
+    }
+
+    /**
+     * View of statistics shared by all game modes.
+     *
+     * @see SiegeStats.Shared
+     */
+    public static class Shared {
+
+        @NotNull
+        final FlatSiegeStats stats;
+
+        /**
+         * The ordinal of the first field of the viewed section.
+         */
+        final int base;
+
+        private Shared(@NotNull FlatSiegeStats stats, @NotNull SiegeStatsField first) {
+            this.stats = stats;
+            this.base = first.ordinal();
+        }
+
+        public int getKills() {
+            return stats.getInt(base);
+        }
+
+        public int getDeaths() {
+            return stats.getInt(base + offset(SiegeStatsField.GENERAL_DEATHS));
+        }
+
+        /**
+         * Returns the kills divided by the deaths, see {@link SiegeStats.Shared#getKD()}.
+         */
+        public double getKD() {
+            double kills = getKills();
+            double deaths = getDeaths();
+            if (kills < 1)
+                return 0;
+            if (deaths < 1)
+                return kills;
+            return kills / deaths;
+        }
+
+        public int getWins() {
+            return stats.getInt(base + offset(SiegeStatsField.GENERAL_WINS));
+        }
+
+        public int getLosses() {
+            return stats.getInt(base + offset(SiegeStatsField.GENERAL_LOSSES));
+        }
+
+        public int getMatches() {
+            return stats.getInt(base + offset(SiegeStatsField.GENERAL_MATCHES));
+        }
+
+        public long getTimePlayed() {
+            return stats.get(base + offset(SiegeStatsField.GENERAL_TIME_PLAYED));
+        }
+
+        /**
+         * Returns the position of the input {@code field} of the general
+         * section, which every section starts with in the same order.
+         */
+        private static int offset(@NotNull SiegeStatsField field) {
+            return field.ordinal() - SiegeStatsField.GENERAL_KILLS.ordinal();
+        }
+
+    }
+
+    /**
+     * View of the general statistics.
+     *
+     * @see SiegeStats.General
+     */
+    public static final class General extends Shared {
+
+        private General(@NotNull FlatSiegeStats stats) {
+            super(stats, SiegeStatsField.GENERAL_KILLS);
+        }
+
+        public int getRevives() {
+            return stats.getInt(SiegeStatsField.GENERAL_REVIVES.ordinal());
+        }
+
+        public int getMelees() {
+            return stats.getInt(SiegeStatsField.GENERAL_MELEES.ordinal());
+        }
+
+        public int getPenetrations() {
+            return stats.getInt(SiegeStatsField.GENERAL_PENETRATIONS.ordinal());
+        }
+
+        public int getAssists() {
+            return stats.getInt(SiegeStatsField.GENERAL_ASSISTS.ordinal());
+        }
+
+        public int getBulletsHit() {
+            return stats.getInt(SiegeStatsField.GENERAL_BULLETS_HIT.ordinal());
+        }
+
+        public int getBulletsfired() {
+            return stats.getInt(SiegeStatsField.GENERAL_BULLETS_FIRED.ordinal());
+        }
+
+        public int getHeadshots() {
+            return stats.getInt(SiegeStatsField.GENERAL_HEADSHOTS.ordinal());
+        }
+
+        public long getTravelled() {
+            return stats.get(SiegeStatsField.GENERAL_DISTANCE_TRAVELLED.ordinal());
+        }
+
+        public int getBarricades() {
+            return stats.getInt(SiegeStatsField.GENERAL_BARRICADES.ordinal());
+        }
+
+        public int getReinforces() {
+            return stats.getInt(SiegeStatsField.GENERAL_REINFORCEMENTS.ordinal());
+        }
+
+        public int getSuicides() {
+            return stats.getInt(SiegeStatsField.GENERAL_SUICIDES.ordinal());
+        }
+
+        public int getKnocks() {
+            return stats.getInt(SiegeStatsField.GENERAL_KNOCKS.ordinal());
+        }
+
+        public int getKnockAssists() {
+            return stats.getInt(SiegeStatsField.GENERAL_KNOCK_ASSISTS.ordinal());
+        }
+
+        public int getGadgetsDestroyed() {
+            return stats.getInt(SiegeStatsField.GENERAL_GADGETS_DESTROYED.ordinal());
+        }
+
+        public int getBlindKills() {
+            return stats.getInt(SiegeStatsField.GENERAL_BLIND_KILLS.ordinal());
+        }
+
+    }
+
+    /**
+     * View of the seasonal statistics of one game mode.
+     *
+     * @see SiegeStats.Seasonal
+     */
+    public static final class Seasonal extends Shared {
+
+        private Seasonal(@NotNull FlatSiegeStats stats, @NotNull SiegeStatsField first) {
+            super(stats, first);
+        }
+
+        public int getMMR() {
+            return stats.getInt(base + offset(SiegeStatsField.SEASONAL_RANKED_MMR));
+        }
+
+        public int getSeason() {
+            return stats.getInt(base + offset(SiegeStatsField.SEASONAL_RANKED_SEASON));
+        }
+
+        public double getMatchmakingSigma() {
+            return Double.longBitsToDouble(stats.get(base + offset(SiegeStatsField.SEASONAL_RANKED_SKILL_SIGMA)));
+        }
+
+        public int getMaxRank() {
+            return stats.getInt(base + offset(SiegeStatsField.SEASONAL_RANKED_MAX_RANK));
+        }
+
+        public int getMaxMMR() {
+            return stats.getInt(base + offset(SiegeStatsField.SEASONAL_RANKED_MAX_MMR));
+        }
+
+        public int getAbandons() {
+            return stats.getInt(base + offset(SiegeStatsField.SEASONAL_RANKED_ABANDONS));
+        }
+
+        public int getLastChangeOfMMR() {
+            return stats.getInt(base + offset(SiegeStatsField.SEASONAL_RANKED_LAST_MMR_CHANGE));
+        }
+
+        public int getTopRankPosition() {
+            return stats.getInt(base + offset(SiegeStatsField.SEASONAL_RANKED_TOP_RANK_POSITION));
+        }
+
+        public int getLastMatchResult() {
+            return stats.getInt(base + offset(SiegeStatsField.SEASONAL_RANKED_LAST_MATCH_RESULT));
+        }
+
+        public int getNextRankMMR() {
+            return stats.getInt(base + offset(SiegeStatsField.SEASONAL_RANKED_NEXT_RANK_MMR));
+        }
+
+        public long getUpdateTime() {
+            return stats.get(base + offset(SiegeStatsField.SEASONAL_RANKED_UPDATE_TIME));
+        }
+
+        public boolean isNoMatchesPlayed() {
+            return stats.getInt(base + offset(SiegeStatsField.SEASONAL_RANKED_NO_MATCHES_PLAYED)) != 0;
+        }
+
+        public boolean isBanned() {
+            return stats.getInt(base + offset(SiegeStatsField.SEASONAL_RANKED_BANNED)) != 0;
+        }
+
+        /**
+         * Returns the position of the input {@code field} of the seasonal
+         * ranked section, which the seasonal casual section shares.
+         */
+        private static int offset(@NotNull SiegeStatsField field) {
+            return field.ordinal() - SiegeStatsField.SEASONAL_RANKED_KILLS.ordinal();
+        }
+
+    }
+
+}
@@ -0,0 +1,286 @@
+package io.github.mindcubr.jsdb.deserialize.siege;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Index of the byte ranges of the members of one JSON object within
+ * a UTF-8 encoded body, found by scanning the structure of the body
+ * without tokenizing or deserializing any value.
+ * <p>The values of the members are deserialized on first access and
+ * memoized, so every member is deserialized at most once.
+ *
+ * @author mindcubr
+ * @since 1.0-0.3
+ */
+final class JsonSlices {
+
+    /**
+     * Marker of members not deserialized yet.
+     */
+    private static final Object UNSET = new Object();
+
+    @NotNull
+    private final byte[] bytes;
+
+    /**
+     * The names of the indexed members.
+     */
+    @NotNull
+    private final String[] names;
+
+    /**
+     * The start of the value of each member, or {@code -1} if missing.
+     */
+    @NotNull
+    private final int[] starts;
+
+    /**
+     * The end of the value of each member, exclusive.
+     */
+    @NotNull
+    private final int[] ends;
+
+    @NotNull
+    private final AtomicReferenceArray<Object> values;
+
+    /**
+     * The lock deserializing members, which does not pin virtual threads.
+     */
+    private final Lock lock = new ReentrantLock();
+
+    private JsonSlices(@NotNull byte[] bytes, @NotNull String[] names) {
+        this.bytes = bytes;
+        this.names = names;
+        this.starts = new int[names.length];
+        this.ends = new int[names.length];
+        this.values = new AtomicReferenceArray<>(names.length);
+        Arrays.fill(starts, -1);
+        for (int i = 0; i < names.length; i++) {
+            values.set(i, UNSET);
+        }
+    }
+
+    /**
+     * Returns whether the member with the input {@code index} exists.
+     *
+     * @param index the index of the member within the indexed names
+     */
+    boolean has(int index) {
+        return starts[index] >= 0;
+    }
+
+    /**
+     * Returns whether the value of the member with the input {@code index}
+     * exists and is an object.
+     *
+     * @param index the index of the member within the indexed names
+     */
+    boolean isObject(int index) {
+        return has(index) && bytes[starts[index]] == '{';
+    }
+
+    /**
+     * Indexes the members of the object that is the value of the member
+     * with the input {@code index}.
+     *
+     * @param index the index of the member, which must be an object
+     * @param names the names of the members to index
+     * @return a new index of the object.
+     * @throws JsonSyntaxException - if the object is malformed.
+     */
+    @NotNull
+    JsonSlices index(int index, @NotNull String... names) {
+        return index(bytes, starts[index], ends[index], names);
+    }
+
+    /**
+     * Returns the value of the member with the input {@code index},
+     * deserializing it using the {@code adapter} on first access.
+     *
+     * @param index   the index of the member
+     * @param adapter the adapter deserializing the value
+     * @return the value, or null if the member is missing.
+     * @throws JsonSyntaxException - if the value cannot be deserialized.
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    <V> V get(int index, @NotNull TypeAdapter<V> adapter) {
+        Object value = values.get(index);
+        if (value != UNSET)
+            return (V) value;
+        lock.lock();
+        try {
+            value = values.get(index);
+            if (value == UNSET) {
+                value = has(index) ? read(index, adapter) : null;
+                values.set(index, value);
+            }
+            return (V) value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Deserializes the value of the member with the input {@code index},
+     * without memoizing it.
+     *
+     * @param index   the index of the member, which must exist
+     * @param adapter the adapter deserializing the value
+     * @return the deserialized value.
+     * @throws JsonSyntaxException - if the value cannot be deserialized.
+     */
+    <V> V read(int index, @NotNull TypeAdapter<V> adapter) {
+        try (JsonReader reader = new JsonReader(new InputStreamReader(new ByteArrayInputStream(
+                bytes, starts[index], ends[index] - starts[index]), StandardCharsets.UTF_8))) {
+            return adapter.read(reader);
+        } catch (IOException | IllegalStateException exc) {
+            throw new JsonSyntaxException("Invalid member '" + names[index] + "'.", exc);
+        }
+    }
+
+    /**
+     * Indexes the members with the input {@code names} of the object,
+     * which is the only value between {@code start} and {@code end}.
+     *
+     * @param bytes the UTF-8 encoded body
+     * @param start the index to start at
+     * @param end   the index to end at, exclusive
+     * @param names the names of the members to index
+     * @return a new index of the object.
+     * @throws JsonSyntaxException - if the object is malformed.
+     */
+    @NotNull
+    static JsonSlices index(@NotNull byte[] bytes, int start, int end, @NotNull String... names) {
+        JsonSlices slices = new JsonSlices(bytes, names);
+        int position = skipWhitespace(bytes, start, end);
+        expect(bytes, position++, end, '{');
+        position = skipWhitespace(bytes, position, end);
+        if (position < end && bytes[position] == '}')
+            return slices;
+        while (true) {
+            expect(bytes, position, end, '"');
+            int nameEnd = skipString(bytes, position, end);
+            int member = indexOf(bytes, position + 1, nameEnd - 1, names);
+            position = skipWhitespace(bytes, nameEnd, end);
+            expect(bytes, position++, end, ':');
+            position = skipWhitespace(bytes, position, end);
+            int valueEnd = skipValue(bytes, position, end);
+            if (member >= 0) {
+                slices.starts[member] = position;
+                slices.ends[member] = valueEnd;
+            }
+            position = skipWhitespace(bytes, valueEnd, end);
+            if (position < end && bytes[position] == ',') {
+                position = skipWhitespace(bytes, position + 1, end);
+                continue;
+            }
+            expect(bytes, position, end, '}');
+            return slices;
+        }
+    }
+
+    /**
+     * Returns the index of the name between {@code start} and {@code end}
+     * within the {@code names}, or {@code -1} if not contained.
+     */
+    private static int indexOf(@NotNull byte[] bytes, int start, int end, @NotNull String[] names) {
+        outer:
+        for (int i = 0; i < names.length; i++) {
+            String name = names[i];
+            if (name.length() != end - start)
+                continue;
+            for (int j = 0; j < name.length(); j++) {
+                if (bytes[start + j] != name.charAt(j))
+                    continue outer;
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index after the value starting at {@code position}.
+     */
+    private static int skipValue(@NotNull byte[] bytes, int position, int end) {
+        if (position >= end)
+            throw malformed(position);
+        byte b = bytes[position];
+        if (b == '"')
+            return skipString(bytes, position, end);
+        if (b == '{' || b == '[') {
+            int depth = 0;
+            for (int i = position; i < end; ) {
+                b = bytes[i];
+                if (b == '"') {
+                    i = skipString(bytes, i, end);
+                    continue;
+                }
+                if (b == '{' || b == '[') {
+                    depth++;
+                } else if ((b == '}' || b == ']') && --depth == 0) {
+                    return i + 1;
+                }
+                i++;
+            }
+            throw malformed(end);
+        }
+        //Literals end at the next structural character or whitespace
+        int i = position;
+        while (i < end && (b = bytes[i]) != ',' && b != '}' && b != ']'
+                && b != ' ' && b != '\t' && b != '\r' && b != '\n') {
+            i++;
+        }
+        if (i == position)
+            throw malformed(position);
+        return i;
+    }
+
+    /**
+     * Returns the index after the string starting at {@code position}.
+     */
+    private static int skipString(@NotNull byte[] bytes, int position, int end) {
+        for (int i = position + 1; i < end; i++) {
+            byte b = bytes[i];
+            if (b == '\\')
+                i++;
+            else if (b == '"')
+                return i + 1;
+        }
+        throw malformed(end);
+    }
+
+    private static int skipWhitespace(@NotNull byte[] bytes, int position, int end) {
+        while (position < end) {
+            byte b = bytes[position];
+            if (b != ' ' && b != '\t' && b != '\r' && b != '\n')
+                break;
+            position++;
+        }
+        return position;
+    }
+
+    private static void expect(@NotNull byte[] bytes, int position, int end, char expected) {
+        if (position >= end || bytes[position] != expected)
+            throw malformed(position);
+    }
+
+    @NotNull
+    private static JsonSyntaxException malformed(int position) {
+        return new JsonSyntaxException("Malformed JSON at offset " + position + ".");
+    }
+
+}
@@ -0,0 +1,250 @@
+package io.github.mindcubr.jsdb.deserialize.siege;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.github.mindcubr.jsdb.deserialize.Alias;
+import io.github.mindcubr.jsdb.deserialize.JsonUtils;
+import org.apache.commons.lang3.Validate;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * View of the {@link SiegePlayer} within the raw body of a response, that
+ * keeps the body and deserializes each part of the player only when it
+ * is accessed first.
+ * <p>Creating the view only scans the structure of the body to find the
+ * parts of the user and its {@link LazySiegeStats statistics}, so reading
+ * e.g. only the level of a player does not deserialize the aliases,
+ * avatars or any other statistics.
+ * <p>The parts are memoized in a thread-safe manner, so every part is
+ * deserialized at most once.
+ *
+ * @author mindcubr
+ * @since 1.0-0.3
+ */
+public final class LazySiegePlayer {
+
+    private static final String[] MEMBERS = {"id", "nickname", "avatar", "corsAvatar",
+            "authority", "countryCode", "aliases", "status"};
+
+    private static final int ID = 0;
+    private static final int NAME = 1;
+    private static final int AVATAR = 2;
+    private static final int CORS_AVATAR = 3;
+    private static final int AUTHORITY = 4;
+    private static final int COUNTRY_CODE = 5;
+    private static final int ALIASES = 6;
+    private static final int STATUS = 7;
+
+    /**
+     * Adapter reading strings as leniently as the model adapters.
+     */
+    private static final TypeAdapter<String> STRING_ADAPTER = new TypeAdapter<String>() {
+
+        @Override
+        public void write(JsonWriter out, String value) throws IOException {
+            out.value(value);
+        }
+
+        @Override
+        public String read(JsonReader in) throws IOException {
+            return JsonUtils.nextString(in);
+        }
+
+    };
+
+    /**
+     * Adapter reading the aliases, skipping null aliases.
+     */
+    private static final TypeAdapter<Alias[]> ALIASES_ADAPTER = new TypeAdapter<Alias[]>() {
+
+        private final Alias.Adapter aliasAdapter = new Alias.Adapter();
+
+        @Override
+        public void write(JsonWriter out, Alias[] value) throws IOException {
+            out.beginArray();
+            for (Alias alias : value) {
+                aliasAdapter.write(out, alias);
+            }
+            out.endArray();
+        }
+
+        @Override
+        public Alias[] read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return new Alias[0];
+            }
+            List<Alias> aliases = new ArrayList<>();
+            in.beginArray();
+            while (in.hasNext()) {
+                Alias alias = aliasAdapter.read(in);
+                if (alias != null)
+                    aliases.add(alias);
+            }
+            in.endArray();
+            return aliases.toArray(new Alias[0]);
+        }
+
+    };
+
+    private static final SiegeUserStatus.Adapter STATUS_ADAPTER = new SiegeUserStatus.Adapter();
+
+    private static final SiegePlayer.Adapter PLAYER_ADAPTER = new SiegePlayer.Adapter();
+
+    @NotNull
+    private final byte[] bytes;
+
+    /**
+     * The index of the payload, containing the user and the statistics.
+     */
+    @NotNull
+    private final JsonSlices payload;
+
+    @NotNull
+    private final JsonSlices user;
+
+    @Nullable
+    private final LazySiegeStats stats;
+
+    private LazySiegePlayer(@NotNull byte[] bytes, @NotNull JsonSlices payload) {
+        this.bytes = bytes;
+        this.payload = payload;
+        this.user = payload.index(0, MEMBERS);
+        this.stats = payload.isObject(1)
+                ? new LazySiegeStats(payload.index(1, LazySiegeStats.MEMBERS)) : null;
+    }
+
+    /**
+     * Returns the ID of this player.
+     *
+     * @see SiegePlayer#getID()
+     */
+    public String getID() {
+        return user.get(ID, STRING_ADAPTER);
+    }
+
+    /**
+     * Returns the nickname of this player.
+     *
+     * @throws NullPointerException - if the nickname is undefined.
+     * @see SiegePlayer#getName()
+     */
+    @NotNull
+    public String getName() {
+        return Objects.requireNonNull(user.get(NAME, STRING_ADAPTER));
+    }
+
+    /**
+     * Returns whether this player has a nickname defined.
+     *
+     * @see SiegePlayer#hasName()
+     */
+    public boolean hasName() {
+        return user.get(NAME, STRING_ADAPTER) != null;
+    }
+
+    public String getAvatar() {
+        return user.get(AVATAR, STRING_ADAPTER);
+    }
+
+    public String getCorsAvatar() {
+        return user.get(CORS_AVATAR, STRING_ADAPTER);
+    }
+
+    public String getAuthority() {
+        return user.get(AUTHORITY, STRING_ADAPTER);
+    }
+
+    /**
+     * Returns the country-code of this player, or null if unknown.
+     *
+     * @see SiegePlayer#getCountryCode()
+     */
+    public String getCountryCode() {
+        String countryCode = user.get(COUNTRY_CODE, STRING_ADAPTER);
+        return "false".equals(countryCode) ? null : countryCode;
+    }
+
+    /**
+     * Returns the {@link Alias aliases} the player had in history.
+     *
+     * @see SiegePlayer#getAliases()
+     */
+    @NotNull
+    public Alias[] getAliases() {
+        Alias[] aliases = user.get(ALIASES, ALIASES_ADAPTER);
+        return aliases != null ? aliases : new Alias[0];
+    }
+
+    public SiegeUserStatus getUserStatus() {
+        return user.get(STATUS, STATUS_ADAPTER);
+    }
+
+    /**
+     * Returns the lazy statistics of this player, or null if the
+     * response contained no statistics.
+     */
+    @Nullable
+    public LazySiegeStats getStats() {
+        return stats;
+    }
+
+    /**
+     * Returns a read-only view of the raw body this player is read from.
+     */
+    @NotNull
+    public ByteBuffer getByteBuffer() {
+        return ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+    }
+
+    /**
+     * Deserializes a regular {@link SiegePlayer} of the whole body,
+     * sharing the memoized statistics.
+     *
+     * @return a new player instance.
+     * @throws JsonSyntaxException - if the player cannot be deserialized.
+     */
+    @NotNull
+    public SiegePlayer toSiegePlayer() {
+        SiegePlayer player = payload.read(0, PLAYER_ADAPTER);
+        if (stats != null)
+            player.setStats(stats.toSiegeStats());
+        return player;
+    }
+
+    /**
+     * Creates a lazy player of the input {@code bytes}, that are the UTF-8
+     * encoded body of a successful response.
+     * <p>The {@code bytes} are kept without copying and must not be
+     * modified afterwards.
+     *
+     * @param bytes the body of the response
+     * @return a new lazy player.
+     * @throws JsonSyntaxException - if the structure of the body is malformed.
+     * @throws IllegalArgumentException - if the body contains no user.
+     */
+    @NotNull
+    public static LazySiegePlayer of(@NotNull byte[] bytes) {
+        Objects.requireNonNull(bytes);
+        JsonSlices body = JsonSlices.index(bytes, 0, bytes.length, "code", "message", "payload");
+
+        //Validate that the servers are online and the URL correct
+        Validate.isTrue(body.has(0), "The target URL is offline or invalid.");
+
+        JsonSlices payload = body.isObject(2) ? body.index(2, "user", "stats") : null;
+        Validate.isTrue(payload != null && payload.isObject(0),
+                "The response contains no user: " + body.get(1, STRING_ADAPTER));
+        return new LazySiegePlayer(bytes, payload);
+    }
+
+}
@@ -0,0 +1,115 @@
+package io.github.mindcubr.jsdb.deserialize.siege;
+
+import com.google.gson.JsonSyntaxException;
+import io.github.mindcubr.jsdb.deserialize.siege.SiegeStats.General;
+import io.github.mindcubr.jsdb.deserialize.siege.SiegeStats.Progression;
+import io.github.mindcubr.jsdb.deserialize.siege.SiegeStats.SeasonalData;
+import io.github.mindcubr.jsdb.deserialize.siege.SiegeStats.Shared;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * View of the {@link SiegeStats} within the raw body of a response, that
+ * deserializes each subtree only when it is accessed first.
+ * <p>The subtrees are memoized in a thread-safe manner, so every subtree
+ * is deserialized at most once and the same instance is returned on
+ * every access.
+ *
+ * @author mindcubr
+ * @see LazySiegePlayer#getStats()
+ * @since 1.0-0.3
+ */
+public final class LazySiegeStats {
+
+    static final String[] MEMBERS = {"seasonal", "general", "progression", "ranked", "casual"};
+
+    private static final int SEASONAL = 0;
+    private static final int GENERAL = 1;
+    private static final int PROGRESSION = 2;
+    private static final int RANKED = 3;
+    private static final int CASUAL = 4;
+
+    private static final SeasonalData.Adapter SEASONAL_ADAPTER = new SeasonalData.Adapter();
+
+    private static final General.Adapter GENERAL_ADAPTER = new General.Adapter();
+
+    private static final Progression.Adapter PROGRESSION_ADAPTER = new Progression.Adapter();
+
+    private static final Shared.Adapter SHARED_ADAPTER = new Shared.Adapter();
+
+    @NotNull
+    private final JsonSlices slices;
+
+    LazySiegeStats(@NotNull JsonSlices slices) {
+        this.slices = slices;
+    }
+
+    /**
+     * The seasonal statistics, or null if missing.
+     *
+     * @throws JsonSyntaxException - if the subtree cannot be deserialized.
+     * @see SiegeStats#getSeasonal()
+     */
+    @Nullable
+    public SeasonalData getSeasonal() {
+        return slices.get(SEASONAL, SEASONAL_ADAPTER);
+    }
+
+    /**
+     * The general statistics, or null if missing.
+     *
+     * @throws JsonSyntaxException - if the subtree cannot be deserialized.
+     * @see SiegeStats#getGeneral()
+     */
+    @Nullable
+    public General getGeneral() {
+        return slices.get(GENERAL, GENERAL_ADAPTER);
+    }
+
+    /**
+     * The progression statistics, or null if missing.
+     *
+     * @throws JsonSyntaxException - if the subtree cannot be deserialized.
+     * @see SiegeStats#getProgression()
+     */
+    @Nullable
+    public Progression getProgression() {
+        return slices.get(PROGRESSION, PROGRESSION_ADAPTER);
+    }
+
+    /**
+     * The shared Ranked statistics, or null if missing.
+     *
+     * @throws JsonSyntaxException - if the subtree cannot be deserialized.
+     * @see SiegeStats#getRanked()
+     */
+    @Nullable
+    public Shared getRanked() {
+        return slices.get(RANKED, SHARED_ADAPTER);
+    }
+
+    /**
+     * The shared Casual statistics, or null if missing.
+     *
+     * @throws JsonSyntaxException - if the subtree cannot be deserialized.
+     * @see SiegeStats#getCasual()
+     */
+    @Nullable
+    public Shared getCasual() {
+        return slices.get(CASUAL, SHARED_ADAPTER);
+    }
+
+    /**
+     * Returns regular {@link SiegeStats} of all subtrees, deserializing
+     * the subtrees that were not accessed yet.
+     *
+     * @return new statistics sharing the memoized subtrees.
+     * @throws JsonSyntaxException - if a subtree cannot be deserialized.
+     */
+    @NotNull
+    public SiegeStats toSiegeStats() {
+        return SiegeStats.of(getSeasonal(), getGeneral(), getProgression(),
+                getRanked(), getCasual());
+    }
+
+}
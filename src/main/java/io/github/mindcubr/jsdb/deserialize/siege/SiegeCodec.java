@@ -0,0 +1,302 @@
+package io.github.mindcubr.jsdb.deserialize.siege;
+
+import io.github.mindcubr.jsdb.deserialize.Alias;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Versioned binary format of {@link SiegePlayer}, {@link SiegeStats},
+ * {@link Alias} and {@link SiegeUserStatus}, e.g. to cache, spill to disk
+ * or transfer fetched data far smaller and faster than as JSON.
+ * <p>Every encoded value starts with the {@link #VERSION} of the format and
+ * a tag of its type, followed by the fields in a fixed order and layout:
+ * numbers in their fixed size and big-endian, booleans as bytes and
+ * strings as their length followed by their UTF-8 bytes. Missing values
+ * and subtrees are marked by a single byte, so null values are kept.
+ * <p>The fields are read and written by the models themselves, so no
+ * reflection is used.
+ *
+ * @author mindcubr
+ * @since 1.0-0.3
+ */
+public final class SiegeCodec {
+
+    /**
+     * The version of the format written by this codec.
+     */
+    public static final byte VERSION = 1;
+
+    private static final byte TAG_PLAYER = 1;
+
+    private static final byte TAG_STATS = 2;
+
+    private static final byte TAG_ALIAS = 3;
+
+    private static final byte TAG_STATUS = 4;
+
+    /**
+     * The initial capacity of buffers allocated by the codec.
+     */
+    private static final int INITIAL_CAPACITY = 512;
+
+    private SiegeCodec() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Writes the input {@code player}, including its aliases, status and
+     * statistics, into the {@code out} buffer at its position.
+     *
+     * @param player the player to write
+     * @param out    the buffer to write into
+     * @throws BufferOverflowException - if the {@code out} buffer is too small.
+     */
+    public static void encode(@NotNull SiegePlayer player, @NotNull ByteBuffer out) {
+        Objects.requireNonNull(player);
+        writeHeader(out, TAG_PLAYER);
+        SiegePlayer.encode(out, player);
+    }
+
+    /**
+     * Writes the input {@code stats} and all of its subtrees into the
+     * {@code out} buffer at its position.
+     *
+     * @param stats the statistics to write
+     * @param out   the buffer to write into
+     * @throws BufferOverflowException - if the {@code out} buffer is too small.
+     */
+    public static void encode(@NotNull SiegeStats stats, @NotNull ByteBuffer out) {
+        Objects.requireNonNull(stats);
+        writeHeader(out, TAG_STATS);
+        SiegeStats.encode(out, stats);
+    }
+
+    /**
+     * Writes the input {@code alias} into the {@code out} buffer at its position.
+     *
+     * @param alias the alias to write
+     * @param out   the buffer to write into
+     * @throws BufferOverflowException - if the {@code out} buffer is too small.
+     */
+    public static void encode(@NotNull Alias alias, @NotNull ByteBuffer out) {
+        Objects.requireNonNull(alias);
+        writeHeader(out, TAG_ALIAS);
+        writeAlias(out, alias);
+    }
+
+    /**
+     * Writes the input {@code status} into the {@code out} buffer at its position.
+     *
+     * @param status the status to write
+     * @param out    the buffer to write into
+     * @throws BufferOverflowException - if the {@code out} buffer is too small.
+     */
+    public static void encode(@NotNull SiegeUserStatus status, @NotNull ByteBuffer out) {
+        Objects.requireNonNull(status);
+        writeHeader(out, TAG_STATUS);
+        SiegeUserStatus.encode(out, status);
+    }
+
+    /**
+     * Encodes the input {@code player} into a new array.
+     *
+     * @param player the player to encode
+     * @return a new array containing the encoded player.
+     * @see #encode(SiegePlayer, ByteBuffer)
+     */
+    @NotNull
+    public static byte[] toBytes(@NotNull SiegePlayer player) {
+        Objects.requireNonNull(player);
+        for (int capacity = INITIAL_CAPACITY; ; capacity <<= 1) {
+            ByteBuffer buffer = ByteBuffer.allocate(capacity);
+            try {
+                encode(player, buffer);
+            } catch (BufferOverflowException exc) {
+                continue;
+            }
+            return toArray(buffer);
+        }
+    }
+
+    /**
+     * Encodes the input {@code stats} into a new array.
+     *
+     * @param stats the statistics to encode
+     * @return a new array containing the encoded statistics.
+     * @see #encode(SiegeStats, ByteBuffer)
+     */
+    @NotNull
+    public static byte[] toBytes(@NotNull SiegeStats stats) {
+        Objects.requireNonNull(stats);
+        //The statistics have a fixed maximum size
+        ByteBuffer buffer = ByteBuffer.allocate(INITIAL_CAPACITY);
+        encode(stats, buffer);
+        return toArray(buffer);
+    }
+
+    /**
+     * Reads a player from the input {@code in} buffer at its position.
+     *
+     * @param in the buffer to read from
+     * @return the player read.
+     * @throws IllegalArgumentException - if the buffer contains no player
+     * or the player was written by an unsupported version.
+     */
+    @NotNull
+    public static SiegePlayer decodePlayer(@NotNull ByteBuffer in) {
+        try {
+            readHeader(in, TAG_PLAYER);
+            return requireValue(SiegePlayer.decode(in));
+        } catch (BufferUnderflowException exc) {
+            throw new IllegalArgumentException("The player is truncated.", exc);
+        }
+    }
+
+    /**
+     * Reads statistics from the input {@code in} buffer at its position.
+     *
+     * @param in the buffer to read from
+     * @return the statistics read.
+     * @throws IllegalArgumentException - if the buffer contains no statistics
+     * or the statistics were written by an unsupported version.
+     */
+    @NotNull
+    public static SiegeStats decodeStats(@NotNull ByteBuffer in) {
+        try {
+            readHeader(in, TAG_STATS);
+            return requireValue(SiegeStats.decode(in));
+        } catch (BufferUnderflowException exc) {
+            throw new IllegalArgumentException("The statistics are truncated.", exc);
+        }
+    }
+
+    /**
+     * Reads an alias from the input {@code in} buffer at its position.
+     *
+     * @param in the buffer to read from
+     * @return the alias read.
+     * @throws IllegalArgumentException - if the buffer contains no alias
+     * or the alias was written by an unsupported version.
+     */
+    @NotNull
+    public static Alias decodeAlias(@NotNull ByteBuffer in) {
+        try {
+            readHeader(in, TAG_ALIAS);
+            return requireValue(readAlias(in));
+        } catch (BufferUnderflowException exc) {
+            throw new IllegalArgumentException("The alias is truncated.", exc);
+        }
+    }
+
+    /**
+     * Reads a status from the input {@code in} buffer at its position.
+     *
+     * @param in the buffer to read from
+     * @return the status read.
+     * @throws IllegalArgumentException - if the buffer contains no status
+     * or the status was written by an unsupported version.
+     */
+    @NotNull
+    public static SiegeUserStatus decodeStatus(@NotNull ByteBuffer in) {
+        try {
+            readHeader(in, TAG_STATUS);
+            return requireValue(SiegeUserStatus.decode(in));
+        } catch (BufferUnderflowException exc) {
+            throw new IllegalArgumentException("The status is truncated.", exc);
+        }
+    }
+
+    /**
+     * Writes the input {@code alias}, or null, without a header.
+     */
+    static void writeAlias(@NotNull ByteBuffer out, @Nullable Alias alias) {
+        out.put((byte) (alias != null ? 1 : 0));
+        if (alias == null)
+            return;
+        putString(out, alias.hasName() ? alias.getName() : null);
+        out.putLong(alias.getTimeChanged());
+    }
+
+    /**
+     * Reads an alias written by {@link #writeAlias(ByteBuffer, Alias)}.
+     */
+    @Nullable
+    static Alias readAlias(@NotNull ByteBuffer in) {
+        if (in.get() == 0)
+            return null;
+        String name = getString(in);
+        return new Alias(name, in.getLong());
+    }
+
+    /**
+     * Writes the input {@code value} as its length followed by its UTF-8
+     * bytes, or {@code -1} if the value is null.
+     */
+    static void putString(@NotNull ByteBuffer out, @Nullable String value) {
+        if (value == null) {
+            out.putInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.putInt(bytes.length);
+        out.put(bytes);
+    }
+
+    /**
+     * Reads a string written by {@link #putString(ByteBuffer, String)}.
+     */
+    @Nullable
+    static String getString(@NotNull ByteBuffer in) {
+        int length = in.getInt();
+        if (length == -1)
+            return null;
+        if (length < 0 || length > in.remaining())
+            throw new IllegalArgumentException("Invalid string length: " + length);
+        String value;
+        if (in.hasArray()) {
+            value = new String(in.array(), in.arrayOffset() + in.position(),
+                    length, StandardCharsets.UTF_8);
+            in.position(in.position() + length);
+        } else {
+            byte[] bytes = new byte[length];
+            in.get(bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return value;
+    }
+
+    private static void writeHeader(@NotNull ByteBuffer out, byte tag) {
+        out.put(VERSION);
+        out.put(tag);
+    }
+
+    private static void readHeader(@NotNull ByteBuffer in, byte tag) {
+        byte version = in.get();
+        if (version != VERSION)
+            throw new IllegalArgumentException("Unsupported version: " + version);
+        byte actual = in.get();
+        if (actual != tag)
+            throw new IllegalArgumentException("Unexpected type: " + actual);
+    }
+
+    @NotNull
+    private static <T> T requireValue(@Nullable T value) {
+        if (value == null)
+            throw new IllegalArgumentException("The value is missing.");
+        return value;
+    }
+
+    @NotNull
+    private static byte[] toArray(@NotNull ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.position()];
+        System.arraycopy(buffer.array(), 0, bytes, 0, bytes.length);
+        return bytes;
+    }
+
+}
@@ -1,11 +1,20 @@
 package io.github.mindcubr.jsdb.deserialize.siege;
 
+import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
 import io.github.mindcubr.jsdb.deserialize.Alias;
+import io.github.mindcubr.jsdb.deserialize.JsonUtils;
 import io.github.mindcubr.jsdb.deserialize.User;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -126,4 +135,230 @@ public class SiegePlayer extends User {
         }
     }
 
+    /**
+     * Writes the input {@code value}, including its aliases, status and
+     * statistics, in the binary format of the {@link SiegeCodec} into the
+     * {@code out} buffer.
+     *
+     * @param out   the buffer to write into
+     * @param value the player to write, or null
+     * @since 1.0-0.3
+     */
+    static void encode(ByteBuffer out, SiegePlayer value) {
+        out.put((byte) (value != null ? 1 : 0));
+        if (value == null)
+            return;
+        SiegeCodec.putString(out, value.getID());
+        SiegeCodec.putString(out, value.hasName() ? value.getName() : null);
+        SiegeCodec.putString(out, value.urlFriendlyName);
+        SiegeCodec.putString(out, value.avatar);
+        SiegeCodec.putString(out, value.smallAvatar);
+        out.putInt(value.aliases.length);
+        for (Alias alias : value.aliases) {
+            SiegeCodec.writeAlias(out, alias);
+        }
+        SiegeCodec.putString(out, value.corsAvatar);
+        SiegeCodec.putString(out, value.authority);
+        SiegeCodec.putString(out, value.countryCode);
+        SiegeUserStatus.encode(out, value.userStatus);
+        SiegeStats.encode(out, value.getStats());
+    }
+
+    /**
+     * Reads a player written by {@link #encode(ByteBuffer, SiegePlayer)}.
+     *
+     * @param in the buffer to read from
+     * @return the player read, or null if null was written.
+     * @since 1.0-0.3
+     */
+    static SiegePlayer decode(ByteBuffer in) {
+        if (in.get() == 0)
+            return null;
+        SiegePlayer player = new SiegePlayer();
+        player.setID(SiegeCodec.getString(in));
+        player.setName(SiegeCodec.getString(in));
+        player.urlFriendlyName = SiegeCodec.getString(in);
+        player.avatar = SiegeCodec.getString(in);
+        player.smallAvatar = SiegeCodec.getString(in);
+        int count = in.getInt();
+        if (count < 0 || count > in.remaining())
+            throw new IllegalArgumentException("Invalid number of aliases: " + count);
+        List<Alias> aliases = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Alias alias = SiegeCodec.readAlias(in);
+            if (alias != null)
+                aliases.add(alias);
+        }
+        player.aliases = aliases.toArray(new Alias[0]);
+        player.corsAvatar = SiegeCodec.getString(in);
+        player.authority = SiegeCodec.getString(in);
+        player.countryCode = SiegeCodec.getString(in);
+        player.userStatus = SiegeUserStatus.decode(in);
+        player.stats = SiegeStats.decode(in);
+        return player;
+    }
+
+    /**
+     * Reflection-free {@link TypeAdapter} of a {@link SiegePlayer},
+     * including its aliases, status and statistics.
+     *
+     * @since 1.0-0.3
+     */
+    public static final class Adapter extends TypeAdapter<SiegePlayer> {
+
+        private final Alias.Adapter aliasAdapter = new Alias.Adapter();
+
+        private final SiegeUserStatus.Adapter statusAdapter = new SiegeUserStatus.Adapter();
+
+        @NotNull
+        private final SiegeProjection projection;
+
+        private final SiegeStats.Adapter statsAdapter;
+
+        public Adapter() {
+            this(SiegeProjection.ALL);
+        }
+
+        /**
+         * Creates an adapter reading only the parts selected by the
+         * input {@code projection}, skipping all others without
+         * materializing them, so the read players are partially
+         * populated. Writing is not affected.
+         *
+         * @param projection the selected parts to read
+         */
+        public Adapter(@NotNull SiegeProjection projection) {
+            this.projection = Objects.requireNonNull(projection);
+            this.statsAdapter = new SiegeStats.Adapter(projection);
+        }
+
+        @Override
+        public void write(JsonWriter out, SiegePlayer value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("id").value(value.getID());
+            out.name("nickname").value(value.hasName() ? value.getName() : null);
+            out.name("urlFriendlyNickname").value(value.urlFriendlyName);
+            out.name("avatar").value(value.avatar);
+            out.name("smallAvatar").value(value.smallAvatar);
+            out.name("aliases").beginArray();
+            for (Alias alias : value.aliases) {
+                aliasAdapter.write(out, alias);
+            }
+            out.endArray();
+            out.name("corsAvatar").value(value.corsAvatar);
+            out.name("authority").value(value.authority);
+            out.name("countryCode").value(value.countryCode);
+            out.name("status");
+            statusAdapter.write(out, value.userStatus);
+            out.name("stats");
+            statsAdapter.write(out, value.getStats());
+            out.endObject();
+        }
+
+        @Override
+        public SiegePlayer read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SiegePlayer player = new SiegePlayer();
+            final boolean profile = projection.includes(SiegeProjection.Part.PROFILE);
+            in.beginObject();
+            while (in.hasNext()) {
+                final String name = in.nextName();
+                //Skip the unselected parts before materializing them
+                if (!profile && isProfile(name)) {
+                    in.skipValue();
+                    continue;
+                }
+                switch (name) {
+                    case "id":
+                        player.setID(JsonUtils.nextString(in));
+                        break;
+                    case "nickname":
+                        player.setName(JsonUtils.nextString(in));
+                        break;
+                    case "urlFriendlyNickname":
+                        player.urlFriendlyName = JsonUtils.nextString(in);
+                        break;
+                    case "avatar":
+                        player.avatar = JsonUtils.nextString(in);
+                        break;
+                    case "smallAvatar":
+                        player.smallAvatar = JsonUtils.nextString(in);
+                        break;
+                    case "aliases":
+                        if (projection.includes(SiegeProjection.Part.ALIASES)) {
+                            player.aliases = readAliases(in);
+                        } else {
+                            in.skipValue();
+                        }
+                        break;
+                    case "corsAvatar":
+                        player.corsAvatar = JsonUtils.nextString(in);
+                        break;
+                    case "authority":
+                        player.authority = JsonUtils.nextString(in);
+                        break;
+                    case "countryCode":
+                        player.countryCode = JsonUtils.nextString(in);
+                        break;
+                    case "status":
+                        if (projection.includes(SiegeProjection.Part.STATUS)) {
+                            player.userStatus = statusAdapter.read(in);
+                        } else {
+                            in.skipValue();
+                        }
+                        break;
+                    case "stats":
+                        if (projection.hasStats()) {
+                            player.stats = statsAdapter.read(in);
+                        } else {
+                            in.skipValue();
+                        }
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return player;
+        }
+
+        private static boolean isProfile(String name) {
+            switch (name) {
+                case "urlFriendlyNickname":
+                case "avatar":
+                case "smallAvatar":
+                case "corsAvatar":
+                case "authority":
+                case "countryCode":
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+        private Alias[] readAliases(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return new Alias[0];
+            }
+            List<Alias> aliases = new ArrayList<>();
+            in.beginArray();
+            while (in.hasNext()) {
+                Alias alias = aliasAdapter.read(in);
+                if (alias != null)
+                    aliases.add(alias);
+            }
+            in.endArray();
+            return aliases.toArray(new Alias[0]);
+        }
+
+    }
+
 }
@@ -0,0 +1,204 @@
+package io.github.mindcubr.jsdb.deserialize.siege;
+
+import io.github.mindcubr.jsdb.deserialize.siege.SiegeStatsField.Section;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Immutable selection of the parts of a {@link SiegePlayer} that are
+ * deserialized, e.g. only the progression and the seasonal ranked
+ * statistics:
+ * <pre><code>
+ *     SiegeProjection.of(Section.PROGRESSION, Section.SEASONAL_RANKED)
+ * </code></pre>
+ * <p>Unselected parts are skipped by the streaming parser without being
+ * materialized, so they stay null (or empty) in the partially populated
+ * player. The ID and the name of a player are always deserialized.
+ *
+ * @author mindcubr
+ * @see SiegePlayer.Adapter#Adapter(SiegeProjection)
+ * @since 1.0-0.3
+ */
+public final class SiegeProjection {
+
+    /**
+     * The parts of a player apart from its statistics.
+     */
+    public enum Part {
+
+        /**
+         * The avatars, the authority and the country-code.
+         */
+        PROFILE,
+        ALIASES,
+        STATUS
+
+    }
+
+    /**
+     * The projection selecting every part, so the whole player.
+     */
+    public static final SiegeProjection ALL = new SiegeProjection(
+            EnumSet.allOf(Part.class), EnumSet.allOf(Section.class));
+
+    /**
+     * The projection selecting no part, so only the ID and the name.
+     */
+    public static final SiegeProjection NONE = new SiegeProjection(
+            EnumSet.noneOf(Part.class), EnumSet.noneOf(Section.class));
+
+    @NotNull
+    private final Set<Part> parts;
+
+    @NotNull
+    private final Set<Section> sections;
+
+    private SiegeProjection(@NotNull EnumSet<Part> parts, @NotNull EnumSet<Section> sections) {
+        this.parts = Collections.unmodifiableSet(parts);
+        this.sections = Collections.unmodifiableSet(sections);
+    }
+
+    /**
+     * Returns whether the input {@code part} is selected.
+     */
+    public boolean includes(@NotNull Part part) {
+        return parts.contains(part);
+    }
+
+    /**
+     * Returns whether the statistics of the input {@code section}
+     * are selected.
+     */
+    public boolean includes(@NotNull Section section) {
+        return sections.contains(section);
+    }
+
+    /**
+     * Returns whether any statistics are selected.
+     */
+    public boolean hasStats() {
+        return !sections.isEmpty();
+    }
+
+    /**
+     * Returns whether any seasonal statistics are selected.
+     */
+    public boolean hasSeasonal() {
+        return sections.contains(Section.SEASONAL_RANKED)
+                || sections.contains(Section.SEASONAL_CASUAL);
+    }
+
+    /**
+     * Returns whether every part is selected, so nothing is skipped.
+     */
+    public boolean isAll() {
+        return parts.size() == Part.values().length
+                && sections.size() == Section.values().length;
+    }
+
+    /**
+     * Returns the selected parts apart from the statistics.
+     */
+    @NotNull
+    public Set<Part> getParts() {
+        return parts;
+    }
+
+    /**
+     * Returns the selected sections of the statistics.
+     */
+    @NotNull
+    public Set<Section> getSections() {
+        return sections;
+    }
+
+    /**
+     * Returns a projection selecting the parts of this projection and
+     * the input {@code parts}.
+     *
+     * @param parts the additionally selected parts
+     * @return a new projection, or this instance if nothing changed.
+     */
+    @NotNull
+    public SiegeProjection with(@NotNull Part... parts) {
+        Objects.requireNonNull(parts);
+        EnumSet<Part> set = copyParts();
+        Collections.addAll(set, parts);
+        return set.equals(this.parts) ? this : new SiegeProjection(set, copySections());
+    }
+
+    /**
+     * Returns a projection selecting the parts of this projection and
+     * the statistics of the input {@code sections}.
+     *
+     * @param sections the additionally selected sections
+     * @return a new projection, or this instance if nothing changed.
+     */
+    @NotNull
+    public SiegeProjection with(@NotNull Section... sections) {
+        Objects.requireNonNull(sections);
+        EnumSet<Section> set = copySections();
+        Collections.addAll(set, sections);
+        return set.equals(this.sections) ? this : new SiegeProjection(copyParts(), set);
+    }
+
+    private EnumSet<Part> copyParts() {
+        return parts.isEmpty() ? EnumSet.noneOf(Part.class) : EnumSet.copyOf(parts);
+    }
+
+    private EnumSet<Section> copySections() {
+        return sections.isEmpty() ? EnumSet.noneOf(Section.class) : EnumSet.copyOf(sections);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SiegeProjection that = (SiegeProjection) o;
+        return parts.equals(that.parts) && sections.equals(that.sections);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(parts, sections);
+    }
+
+    @Override
+    public String toString() {
+        return "SiegeProjection{" +
+                "parts=" + parts +
+                ", sections=" + sections +
+                '}';
+    }
+
+    /**
+     * Creates a projection selecting only the statistics of the input
+     * {@code sections}, apart from the ID and the name.
+     *
+     * @param sections the selected sections
+     * @return a new projection of the {@code sections}.
+     * @see #with(Part...)
+     */
+    @NotNull
+    public static SiegeProjection of(@NotNull Section... sections) {
+        return NONE.with(sections);
+    }
+
+    /**
+     * Creates a projection selecting only the input {@code parts},
+     * apart from the ID and the name.
+     *
+     * @param parts the selected parts
+     * @return a new projection of the {@code parts}.
+     * @see #with(Section...)
+     */
+    @NotNull
+    public static SiegeProjection of(@NotNull Part... parts) {
+        return NONE.with(parts);
+    }
+
+}
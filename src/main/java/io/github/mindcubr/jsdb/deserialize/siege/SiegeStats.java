@@ -1,6 +1,17 @@
 package io.github.mindcubr.jsdb.deserialize.siege;
 
+import com.google.gson.TypeAdapter;
 import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.github.mindcubr.jsdb.deserialize.JsonUtils;
+import io.github.mindcubr.jsdb.deserialize.siege.SiegeStatsField.Section;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Objects;
 
 /**
  * This class represents the "stats" tree within the returning
@@ -88,6 +99,172 @@ public class SiegeStats {
                 '}';
     }
 
+    /**
+     * Creates statistics of the input subtrees, e.g. of subtrees that
+     * were deserialized separately.
+     *
+     * @since 1.0-0.3
+     */
+    static SiegeStats of(SeasonalData seasonal, General general, Progression progression,
+                         Shared ranked, Shared casual) {
+        SiegeStats stats = new SiegeStats();
+        stats.seasonal = seasonal;
+        stats.general = general;
+        stats.progression = progression;
+        stats.ranked = ranked;
+        stats.casual = casual;
+        return stats;
+    }
+
+    /**
+     * Writes the input {@code value} and all of its subtrees in the binary
+     * format of the {@link SiegeCodec} into the {@code out} buffer.
+     *
+     * @param out   the buffer to write into
+     * @param value the statistics to write, or null
+     * @since 1.0-0.3
+     */
+    static void encode(ByteBuffer out, SiegeStats value) {
+        out.put((byte) (value != null ? 1 : 0));
+        if (value == null)
+            return;
+        SeasonalData.encode(out, value.seasonal);
+        General.encode(out, value.general);
+        Progression.encode(out, value.progression);
+        Shared.encode(out, value.ranked);
+        Shared.encode(out, value.casual);
+    }
+
+    /**
+     * Reads statistics written by {@link #encode(ByteBuffer, SiegeStats)}
+     * from the input {@code in} buffer.
+     *
+     * @param in the buffer to read from
+     * @return the statistics read, or null if null was written.
+     * @since 1.0-0.3
+     */
+    static SiegeStats decode(ByteBuffer in) {
+        if (in.get() == 0)
+            return null;
+        SiegeStats stats = new SiegeStats();
+        stats.seasonal = SeasonalData.decode(in);
+        stats.general = General.decode(in);
+        stats.progression = Progression.decode(in);
+        stats.ranked = Shared.decode(in);
+        stats.casual = Shared.decode(in);
+        return stats;
+    }
+
+    /**
+     * Reflection-free {@link TypeAdapter} of {@link SiegeStats}
+     * and all of its subtrees.
+     *
+     * @since 1.0-0.3
+     */
+    public static final class Adapter extends TypeAdapter<SiegeStats> {
+
+        @NotNull
+        private final SiegeProjection projection;
+
+        private final SeasonalData.Adapter seasonalAdapter;
+
+        private final General.Adapter generalAdapter = new General.Adapter();
+
+        private final Progression.Adapter progressionAdapter = new Progression.Adapter();
+
+        private final Shared.Adapter sharedAdapter = new Shared.Adapter();
+
+        public Adapter() {
+            this(SiegeProjection.ALL);
+        }
+
+        /**
+         * Creates an adapter reading only the sections selected by the
+         * input {@code projection}, skipping all others without
+         * materializing them. Writing is not affected.
+         *
+         * @param projection the selected sections to read
+         */
+        public Adapter(@NotNull SiegeProjection projection) {
+            this.projection = Objects.requireNonNull(projection);
+            this.seasonalAdapter = new SeasonalData.Adapter(projection);
+        }
+
+        @Override
+        public void write(JsonWriter out, SiegeStats value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("seasonal");
+            seasonalAdapter.write(out, value.seasonal);
+            out.name("general");
+            generalAdapter.write(out, value.general);
+            out.name("progression");
+            progressionAdapter.write(out, value.progression);
+            out.name("ranked");
+            sharedAdapter.write(out, value.ranked);
+            out.name("casual");
+            sharedAdapter.write(out, value.casual);
+            out.endObject();
+        }
+
+        @Override
+        public SiegeStats read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SiegeStats stats = new SiegeStats();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "seasonal":
+                        if (projection.hasSeasonal()) {
+                            stats.seasonal = seasonalAdapter.read(in);
+                        } else {
+                            in.skipValue();
+                        }
+                        break;
+                    case "general":
+                        if (projection.includes(Section.GENERAL)) {
+                            stats.general = generalAdapter.read(in);
+                        } else {
+                            in.skipValue();
+                        }
+                        break;
+                    case "progression":
+                        if (projection.includes(Section.PROGRESSION)) {
+                            stats.progression = progressionAdapter.read(in);
+                        } else {
+                            in.skipValue();
+                        }
+                        break;
+                    case "ranked":
+                        if (projection.includes(Section.RANKED)) {
+                            stats.ranked = sharedAdapter.read(in);
+                        } else {
+                            in.skipValue();
+                        }
+                        break;
+                    case "casual":
+                        if (projection.includes(Section.CASUAL)) {
+                            stats.casual = sharedAdapter.read(in);
+                        } else {
+                            in.skipValue();
+                        }
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return stats;
+        }
+
+    }
+
     /**
      * Seasonal package used for deserialization.
      * This class contains only seasonal statistics and data.
@@ -126,6 +303,112 @@ public class SiegeStats {
                     '}';
         }
 
+        /**
+         * Writes the input {@code value} in the binary format of the
+         * {@link SiegeCodec} into the {@code out} buffer.
+         *
+         * @param out   the buffer to write into
+         * @param value the seasonal statistics to write, or null
+         * @since 1.0-0.3
+         */
+        static void encode(ByteBuffer out, SeasonalData value) {
+            out.put((byte) (value != null ? 1 : 0));
+            if (value == null)
+                return;
+            Seasonal.encode(out, value.ranked);
+            Seasonal.encode(out, value.casual);
+        }
+
+        /**
+         * Reads seasonal statistics written by {@link #encode(ByteBuffer, SeasonalData)}.
+         *
+         * @param in the buffer to read from
+         * @return the seasonal statistics read, or null if null was written.
+         * @since 1.0-0.3
+         */
+        static SeasonalData decode(ByteBuffer in) {
+            if (in.get() == 0)
+                return null;
+            SeasonalData data = new SeasonalData();
+            data.ranked = Seasonal.decode(in);
+            data.casual = Seasonal.decode(in);
+            return data;
+        }
+
+        /**
+         * Reflection-free {@link TypeAdapter} of {@link SeasonalData}.
+         *
+         * @since 1.0-0.3
+         */
+        public static final class Adapter extends TypeAdapter<SeasonalData> {
+
+            @NotNull
+            private final SiegeProjection projection;
+
+            private final Seasonal.Adapter seasonalAdapter = new Seasonal.Adapter();
+
+            public Adapter() {
+                this(SiegeProjection.ALL);
+            }
+
+            /**
+             * Creates an adapter reading only the seasonal sections
+             * selected by the input {@code projection}.
+             *
+             * @param projection the selected sections to read
+             */
+            public Adapter(@NotNull SiegeProjection projection) {
+                this.projection = Objects.requireNonNull(projection);
+            }
+
+            @Override
+            public void write(JsonWriter out, SeasonalData value) throws IOException {
+                if (value == null) {
+                    out.nullValue();
+                    return;
+                }
+                out.beginObject();
+                out.name("ranked");
+                seasonalAdapter.write(out, value.ranked);
+                out.name("casual");
+                seasonalAdapter.write(out, value.casual);
+                out.endObject();
+            }
+
+            @Override
+            public SeasonalData read(JsonReader in) throws IOException {
+                if (in.peek() == JsonToken.NULL) {
+                    in.nextNull();
+                    return null;
+                }
+                SeasonalData data = new SeasonalData();
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "ranked":
+                            if (projection.includes(Section.SEASONAL_RANKED)) {
+                                data.ranked = seasonalAdapter.read(in);
+                            } else {
+                                in.skipValue();
+                            }
+                            break;
+                        case "casual":
+                            if (projection.includes(Section.SEASONAL_CASUAL)) {
+                                data.casual = seasonalAdapter.read(in);
+                            } else {
+                                in.skipValue();
+                            }
+                            break;
+                        default:
+                            in.skipValue();
+                    }
+                }
+                in.endObject();
+                return data;
+            }
+
+        }
+
     }
 
     /**
@@ -174,6 +457,89 @@ public class SiegeStats {
                     '}';
         }
 
+        /**
+         * Writes the input {@code value} in the binary format of the
+         * {@link SiegeCodec} into the {@code out} buffer.
+         *
+         * @param out   the buffer to write into
+         * @param value the progression to write, or null
+         * @since 1.0-0.3
+         */
+        static void encode(ByteBuffer out, Progression value) {
+            out.put((byte) (value != null ? 1 : 0));
+            if (value == null)
+                return;
+            out.putInt(value.level);
+            out.putInt(value.chance);
+            out.putInt(value.xp);
+        }
+
+        /**
+         * Reads a progression written by {@link #encode(ByteBuffer, Progression)}.
+         *
+         * @param in the buffer to read from
+         * @return the progression read, or null if null was written.
+         * @since 1.0-0.3
+         */
+        static Progression decode(ByteBuffer in) {
+            if (in.get() == 0)
+                return null;
+            Progression progression = new Progression();
+            progression.level = in.getInt();
+            progression.chance = in.getInt();
+            progression.xp = in.getInt();
+            return progression;
+        }
+
+        /**
+         * Reflection-free {@link TypeAdapter} of a {@link Progression}.
+         *
+         * @since 1.0-0.3
+         */
+        public static final class Adapter extends TypeAdapter<Progression> {
+
+            @Override
+            public void write(JsonWriter out, Progression value) throws IOException {
+                if (value == null) {
+                    out.nullValue();
+                    return;
+                }
+                out.beginObject();
+                out.name("level").value(value.level);
+                out.name("lootbox_probability").value(value.chance);
+                out.name("xp").value(value.xp);
+                out.endObject();
+            }
+
+            @Override
+            public Progression read(JsonReader in) throws IOException {
+                if (in.peek() == JsonToken.NULL) {
+                    in.nextNull();
+                    return null;
+                }
+                Progression progression = new Progression();
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "level":
+                            progression.level = JsonUtils.nextInt(in);
+                            break;
+                        case "lootbox_probability":
+                            progression.chance = JsonUtils.nextInt(in);
+                            break;
+                        case "xp":
+                            progression.xp = JsonUtils.nextInt(in);
+                            break;
+                        default:
+                            in.skipValue();
+                    }
+                }
+                in.endObject();
+                return progression;
+            }
+
+        }
+
     }
 
     /**
@@ -364,6 +730,167 @@ public class SiegeStats {
                     '}';
         }
 
+        /**
+         * Writes the input {@code value} in the binary format of the
+         * {@link SiegeCodec} into the {@code out} buffer.
+         *
+         * @param out   the buffer to write into
+         * @param value the general statistics to write, or null
+         * @since 1.0-0.3
+         */
+        static void encode(ByteBuffer out, General value) {
+            out.put((byte) (value != null ? 1 : 0));
+            if (value == null)
+                return;
+            Shared.encodeFields(out, value);
+            out.putInt(value.revives);
+            out.putInt(value.melees);
+            out.putInt(value.penetrations);
+            out.putInt(value.assists);
+            out.putInt(value.bulletshit);
+            out.putInt(value.bulletsfired);
+            out.putInt(value.headshots);
+            out.putLong(value.travelled);
+            out.putInt(value.barricades);
+            out.putInt(value.reinforces);
+            out.putInt(value.suicides);
+            out.putInt(value.knocks);
+            out.putInt(value.knockAssists);
+            out.putInt(value.gadgetsDestroyed);
+            out.putInt(value.blindKills);
+        }
+
+        /**
+         * Reads general statistics written by {@link #encode(ByteBuffer, General)}.
+         *
+         * @param in the buffer to read from
+         * @return the general statistics read, or null if null was written.
+         * @since 1.0-0.3
+         */
+        static General decode(ByteBuffer in) {
+            if (in.get() == 0)
+                return null;
+            General general = new General();
+            Shared.decodeFields(in, general);
+            general.revives = in.getInt();
+            general.melees = in.getInt();
+            general.penetrations = in.getInt();
+            general.assists = in.getInt();
+            general.bulletshit = in.getInt();
+            general.bulletsfired = in.getInt();
+            general.headshots = in.getInt();
+            general.travelled = in.getLong();
+            general.barricades = in.getInt();
+            general.reinforces = in.getInt();
+            general.suicides = in.getInt();
+            general.knocks = in.getInt();
+            general.knockAssists = in.getInt();
+            general.gadgetsDestroyed = in.getInt();
+            general.blindKills = in.getInt();
+            return general;
+        }
+
+        /**
+         * Reflection-free {@link TypeAdapter} of a {@link General}.
+         *
+         * @since 1.0-0.3
+         */
+        public static final class Adapter extends TypeAdapter<General> {
+
+            @Override
+            public void write(JsonWriter out, General value) throws IOException {
+                if (value == null) {
+                    out.nullValue();
+                    return;
+                }
+                out.beginObject();
+                Shared.writeFields(out, value);
+                out.name("revives").value(value.revives);
+                out.name("melees").value(value.melees);
+                out.name("penetrations").value(value.penetrations);
+                out.name("assists").value(value.assists);
+                out.name("bulletshit").value(value.bulletshit);
+                out.name("bulletsfired").value(value.bulletsfired);
+                out.name("headshots").value(value.headshots);
+                out.name("distancetravelled").value(value.travelled);
+                out.name("barricadedeployed").value(value.barricades);
+                out.name("reinforcementdeploy").value(value.reinforces);
+                out.name("suicide").value(value.suicides);
+                out.name("dbno").value(value.knocks);
+                out.name("dbnoassists").value(value.knockAssists);
+                out.name("gadgetdestroy").value(value.gadgetsDestroyed);
+                out.name("blindkills").value(value.blindKills);
+                out.endObject();
+            }
+
+            @Override
+            public General read(JsonReader in) throws IOException {
+                if (in.peek() == JsonToken.NULL) {
+                    in.nextNull();
+                    return null;
+                }
+                General general = new General();
+                in.beginObject();
+                while (in.hasNext()) {
+                    String name = in.nextName();
+                    if (Shared.readField(in, name, general))
+                        continue;
+                    switch (name) {
+                        case "revives":
+                            general.revives = JsonUtils.nextInt(in);
+                            break;
+                        case "melees":
+                            general.melees = JsonUtils.nextInt(in);
+                            break;
+                        case "penetrations":
+                            general.penetrations = JsonUtils.nextInt(in);
+                            break;
+                        case "assists":
+                            general.assists = JsonUtils.nextInt(in);
+                            break;
+                        case "bulletshit":
+                            general.bulletshit = JsonUtils.nextInt(in);
+                            break;
+                        case "bulletsfired":
+                            general.bulletsfired = JsonUtils.nextInt(in);
+                            break;
+                        case "headshots":
+                            general.headshots = JsonUtils.nextInt(in);
+                            break;
+                        case "distancetravelled":
+                            general.travelled = JsonUtils.nextLong(in);
+                            break;
+                        case "barricadedeployed":
+                            general.barricades = JsonUtils.nextInt(in);
+                            break;
+                        case "reinforcementdeploy":
+                            general.reinforces = JsonUtils.nextInt(in);
+                            break;
+                        case "suicide":
+                            general.suicides = JsonUtils.nextInt(in);
+                            break;
+                        case "dbno":
+                            general.knocks = JsonUtils.nextInt(in);
+                            break;
+                        case "dbnoassists":
+                            general.knockAssists = JsonUtils.nextInt(in);
+                            break;
+                        case "gadgetdestroy":
+                            general.gadgetsDestroyed = JsonUtils.nextInt(in);
+                            break;
+                        case "blindkills":
+                            general.blindKills = JsonUtils.nextInt(in);
+                            break;
+                        default:
+                            in.skipValue();
+                    }
+                }
+                in.endObject();
+                return general;
+            }
+
+        }
+
     }
 
     /**
@@ -499,6 +1026,159 @@ public class SiegeStats {
                     '}';
         }
 
+        /**
+         * Writes the shared fields of the input {@code value} into
+         * the currently open object of the {@code out} writer.
+         *
+         * @param out   the writer to write into
+         * @param value the shared statistics to write
+         * @throws IOException - if writing fails.
+         * @since 1.0-0.3
+         */
+        static void writeFields(JsonWriter out, Shared value) throws IOException {
+            out.name("kills").value(value.kills);
+            out.name("deaths").value(value.deaths);
+            out.name("wins").value(value.wins);
+            out.name("losses").value(value.losses);
+            out.name("matchesplayed").value(value.matches);
+            out.name("timeplayed").value(value.timePlayed);
+        }
+
+        /**
+         * Reads the value of the field with the input {@code name} into
+         * the {@code target}, if the name belongs to a shared field.
+         *
+         * @param in     the reader, positioned at the value of the field
+         * @param name   the name of the field that was read
+         * @param target the shared statistics to read into
+         * @return whether the field was a shared field and therefore read.
+         * @throws IOException - if reading fails.
+         * @since 1.0-0.3
+         */
+        static boolean readField(JsonReader in, String name, Shared target) throws IOException {
+            switch (name) {
+                case "kills":
+                    target.kills = JsonUtils.nextInt(in);
+                    return true;
+                case "deaths":
+                    target.deaths = JsonUtils.nextInt(in);
+                    return true;
+                case "wins":
+                    target.wins = JsonUtils.nextInt(in);
+                    return true;
+                case "losses":
+                    target.losses = JsonUtils.nextInt(in);
+                    return true;
+                case "matchesplayed":
+                    target.matches = JsonUtils.nextInt(in);
+                    return true;
+                case "timeplayed":
+                    target.timePlayed = JsonUtils.nextLong(in);
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+        /**
+         * Writes the shared fields of the input {@code value} in the binary
+         * format of the {@link SiegeCodec} into the {@code out} buffer.
+         *
+         * @param out   the buffer to write into
+         * @param value the shared statistics to write
+         * @since 1.0-0.3
+         */
+        static void encodeFields(ByteBuffer out, Shared value) {
+            out.putInt(value.kills);
+            out.putInt(value.deaths);
+            out.putInt(value.wins);
+            out.putInt(value.losses);
+            out.putInt(value.matches);
+            out.putLong(value.timePlayed);
+        }
+
+        /**
+         * Reads the shared fields written by {@link #encodeFields} into
+         * the {@code target}.
+         *
+         * @param in     the buffer to read from
+         * @param target the shared statistics to read into
+         * @since 1.0-0.3
+         */
+        static void decodeFields(ByteBuffer in, Shared target) {
+            target.kills = in.getInt();
+            target.deaths = in.getInt();
+            target.wins = in.getInt();
+            target.losses = in.getInt();
+            target.matches = in.getInt();
+            target.timePlayed = in.getLong();
+        }
+
+        /**
+         * Writes the input {@code value} in the binary format of the
+         * {@link SiegeCodec} into the {@code out} buffer.
+         *
+         * @param out   the buffer to write into
+         * @param value the shared statistics to write, or null
+         * @since 1.0-0.3
+         */
+        static void encode(ByteBuffer out, Shared value) {
+            out.put((byte) (value != null ? 1 : 0));
+            if (value != null)
+                encodeFields(out, value);
+        }
+
+        /**
+         * Reads shared statistics written by {@link #encode(ByteBuffer, Shared)}.
+         *
+         * @param in the buffer to read from
+         * @return the shared statistics read, or null if null was written.
+         * @since 1.0-0.3
+         */
+        static Shared decode(ByteBuffer in) {
+            if (in.get() == 0)
+                return null;
+            Shared shared = new Shared();
+            decodeFields(in, shared);
+            return shared;
+        }
+
+        /**
+         * Reflection-free {@link TypeAdapter} of {@link Shared} statistics.
+         *
+         * @since 1.0-0.3
+         */
+        public static final class Adapter extends TypeAdapter<Shared> {
+
+            @Override
+            public void write(JsonWriter out, Shared value) throws IOException {
+                if (value == null) {
+                    out.nullValue();
+                    return;
+                }
+                out.beginObject();
+                writeFields(out, value);
+                out.endObject();
+            }
+
+            @Override
+            public Shared read(JsonReader in) throws IOException {
+                if (in.peek() == JsonToken.NULL) {
+                    in.nextNull();
+                    return null;
+                }
+                Shared shared = new Shared();
+                in.beginObject();
+                while (in.hasNext()) {
+                    if (!readField(in, in.nextName(), shared))
+                        in.skipValue();
+                }
+                in.endObject();
+                return shared;
+            }
+
+        }
+
     }
 
     /**
@@ -682,6 +1362,156 @@ public class SiegeStats {
                     '}';
         }
 
+        /**
+         * Writes the input {@code value} in the binary format of the
+         * {@link SiegeCodec} into the {@code out} buffer.
+         *
+         * @param out   the buffer to write into
+         * @param value the seasonal statistics to write, or null
+         * @since 1.0-0.3
+         */
+        static void encode(ByteBuffer out, Seasonal value) {
+            out.put((byte) (value != null ? 1 : 0));
+            if (value == null)
+                return;
+            Shared.encodeFields(out, value);
+            out.putInt(value.mmr);
+            out.putInt(value.season);
+            out.putDouble(value.skill_stdev);
+            out.putInt(value.maxRank);
+            out.putInt(value.maxMMR);
+            out.putInt(value.abandons);
+            out.putInt(value.lastChangeOfMMR);
+            out.putInt(value.topRankPosition);
+            out.putInt(value.lastMatchResult);
+            out.putInt(value.nextRankMMR);
+            out.putLong(value.updateTime);
+            //Both booleans share one byte
+            out.put((byte) ((value.noMatchesPlayed ? 1 : 0) | (value.banned ? 2 : 0)));
+        }
+
+        /**
+         * Reads seasonal statistics written by {@link #encode(ByteBuffer, Seasonal)}.
+         *
+         * @param in the buffer to read from
+         * @return the seasonal statistics read, or null if null was written.
+         * @since 1.0-0.3
+         */
+        static Seasonal decode(ByteBuffer in) {
+            if (in.get() == 0)
+                return null;
+            Seasonal seasonal = new Seasonal();
+            Shared.decodeFields(in, seasonal);
+            seasonal.mmr = in.getInt();
+            seasonal.season = in.getInt();
+            seasonal.skill_stdev = in.getDouble();
+            seasonal.maxRank = in.getInt();
+            seasonal.maxMMR = in.getInt();
+            seasonal.abandons = in.getInt();
+            seasonal.lastChangeOfMMR = in.getInt();
+            seasonal.topRankPosition = in.getInt();
+            seasonal.lastMatchResult = in.getInt();
+            seasonal.nextRankMMR = in.getInt();
+            seasonal.updateTime = in.getLong();
+            byte flags = in.get();
+            seasonal.noMatchesPlayed = (flags & 1) != 0;
+            seasonal.banned = (flags & 2) != 0;
+            return seasonal;
+        }
+
+        /**
+         * Reflection-free {@link TypeAdapter} of {@link Seasonal} statistics.
+         *
+         * @since 1.0-0.3
+         */
+        public static final class Adapter extends TypeAdapter<Seasonal> {
+
+            @Override
+            public void write(JsonWriter out, Seasonal value) throws IOException {
+                if (value == null) {
+                    out.nullValue();
+                    return;
+                }
+                out.beginObject();
+                Shared.writeFields(out, value);
+                out.name("mmr").value(value.mmr);
+                out.name("season").value(value.season);
+                out.name("skill_stdev").value(value.skill_stdev);
+                out.name("max_rank").value(value.maxRank);
+                out.name("max_mmr").value(value.maxMMR);
+                out.name("abandons").value(value.abandons);
+                out.name("last_match_mmr_change").value(value.lastChangeOfMMR);
+                out.name("top_rank_position").value(value.topRankPosition);
+                out.name("last_match_result").value(value.lastMatchResult);
+                out.name("next_rank_mmr").value(value.nextRankMMR);
+                out.name("update_time").value(value.updateTime);
+                out.name("noMatchesPlayed").value(value.noMatchesPlayed);
+                out.name("banned").value(value.banned);
+                out.endObject();
+            }
+
+            @Override
+            public Seasonal read(JsonReader in) throws IOException {
+                if (in.peek() == JsonToken.NULL) {
+                    in.nextNull();
+                    return null;
+                }
+                Seasonal seasonal = new Seasonal();
+                in.beginObject();
+                while (in.hasNext()) {
+                    String name = in.nextName();
+                    if (Shared.readField(in, name, seasonal))
+                        continue;
+                    switch (name) {
+                        case "mmr":
+                            seasonal.mmr = JsonUtils.nextInt(in);
+                            break;
+                        case "season":
+                            seasonal.season = JsonUtils.nextInt(in);
+                            break;
+                        case "skill_stdev":
+                            seasonal.skill_stdev = JsonUtils.nextDouble(in);
+                            break;
+                        case "max_rank":
+                            seasonal.maxRank = JsonUtils.nextInt(in);
+                            break;
+                        case "max_mmr":
+                            seasonal.maxMMR = JsonUtils.nextInt(in);
+                            break;
+                        case "abandons":
+                            seasonal.abandons = JsonUtils.nextInt(in);
+                            break;
+                        case "last_match_mmr_change":
+                            seasonal.lastChangeOfMMR = JsonUtils.nextInt(in);
+                            break;
+                        case "top_rank_position":
+                            seasonal.topRankPosition = JsonUtils.nextInt(in);
+                            break;
+                        case "last_match_result":
+                            seasonal.lastMatchResult = JsonUtils.nextInt(in);
+                            break;
+                        case "next_rank_mmr":
+                            seasonal.nextRankMMR = JsonUtils.nextInt(in);
+                            break;
+                        case "update_time":
+                            seasonal.updateTime = JsonUtils.nextLong(in);
+                            break;
+                        case "noMatchesPlayed":
+                            seasonal.noMatchesPlayed = JsonUtils.nextBoolean(in);
+                            break;
+                        case "banned":
+                            seasonal.banned = JsonUtils.nextBoolean(in);
+                            break;
+                        default:
+                            in.skipValue();
+                    }
+                }
+                in.endObject();
+                return seasonal;
+            }
+
+        }
+
     }
 
 }
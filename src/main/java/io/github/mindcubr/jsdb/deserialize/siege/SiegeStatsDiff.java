@@ -0,0 +1,90 @@
+package io.github.mindcubr.jsdb.deserialize.siege;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+
+/**
+ * Utilities comparing two snapshots of {@link SiegeStats}, covering the
+ * general, shared ranked and casual, seasonal and progression statistics.
+ * <p>The comparison reads every {@link SiegeStatsField} as a primitive and
+ * writes into a reusable {@link StatsDelta}, so no value is boxed and no
+ * reflection is used. Missing subtrees compare as if all of their fields
+ * were {@code 0}.
+ *
+ * @author mindcubr
+ * @since 1.0-0.3
+ */
+public final class SiegeStatsDiff {
+
+    private SiegeStatsDiff() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Compares the {@code previous} and {@code current} statistics,
+     * overwriting the input {@code delta} with their differences.
+     *
+     * @param previous the previous statistics, or null
+     * @param current  the current statistics, or null
+     * @param delta    the delta to write the differences into
+     * @return whether any field has changed.
+     */
+    public static boolean diff(@Nullable SiegeStats previous, @Nullable SiegeStats current,
+                               @NotNull StatsDelta delta) {
+        Objects.requireNonNull(delta);
+        boolean changed = false;
+        for (int i = 0, count = SiegeStatsField.count(); i < count; i++) {
+            SiegeStatsField field = SiegeStatsField.of(i);
+            long before = previous != null ? field.get(previous) : 0;
+            long after = current != null ? field.get(current) : 0;
+            delta.set(i, before, after);
+            changed |= before != after;
+        }
+        return changed;
+    }
+
+    /**
+     * Compares the {@code previous} and {@code current} snapshots taken by
+     * {@link SiegeStatsField#snapshot}, overwriting the input {@code delta}
+     * with their differences.
+     *
+     * @param previous the previous values
+     * @param current  the current values
+     * @param delta    the delta to write the differences into
+     * @return whether any field has changed.
+     * @throws IllegalArgumentException - if a snapshot has not exactly
+     * one value per field.
+     */
+    public static boolean diff(@NotNull long[] previous, @NotNull long[] current,
+                               @NotNull StatsDelta delta) {
+        Objects.requireNonNull(delta);
+        int count = SiegeStatsField.count();
+        if (previous.length != count || current.length != count)
+            throw new IllegalArgumentException("The snapshots must contain every field.");
+        boolean changed = false;
+        for (int i = 0; i < count; i++) {
+            delta.set(i, previous[i], current[i]);
+            changed |= previous[i] != current[i];
+        }
+        return changed;
+    }
+
+    /**
+     * Compares the {@code previous} and {@code current} statistics into
+     * a new {@link StatsDelta}.
+     *
+     * @param previous the previous statistics, or null
+     * @param current  the current statistics, or null
+     * @return a new delta containing the differences.
+     * @see #diff(SiegeStats, SiegeStats, StatsDelta)
+     */
+    @NotNull
+    public static StatsDelta diff(@Nullable SiegeStats previous, @Nullable SiegeStats current) {
+        StatsDelta delta = StatsDelta.create();
+        diff(previous, current, delta);
+        return delta;
+    }
+
+}
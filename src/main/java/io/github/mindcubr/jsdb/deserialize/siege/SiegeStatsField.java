@@ -0,0 +1,346 @@
+package io.github.mindcubr.jsdb.deserialize.siege;
+
+import io.github.mindcubr.jsdb.deserialize.siege.SiegeStats.General;
+import io.github.mindcubr.jsdb.deserialize.siege.SiegeStats.Progression;
+import io.github.mindcubr.jsdb.deserialize.siege.SiegeStats.Seasonal;
+import io.github.mindcubr.jsdb.deserialize.siege.SiegeStats.Shared;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.function.ToLongFunction;
+
+/**
+ * Every numeric field of the {@link SiegeStats} tree, each with a getter
+ * returning its value as a {@code long}, so the statistics of a player can
+ * be compared, stored or transferred field by field without reflection.
+ * <p>Integers are widened, booleans are represented as {@code 0} or
+ * {@code 1} and doubles by their raw bits, see {@link #getDouble(SiegeStats)}.
+ * Fields of a missing subtree have the value {@code 0}.
+ *
+ * @author mindcubr
+ * @since 1.0-0.3
+ */
+public enum SiegeStatsField {
+
+    GENERAL_KILLS(Section.GENERAL, Type.INTEGER, "kills",
+            s -> value(s.getGeneral(), General::getKills)),
+    GENERAL_DEATHS(Section.GENERAL, Type.INTEGER, "deaths",
+            s -> value(s.getGeneral(), General::getDeaths)),
+    GENERAL_WINS(Section.GENERAL, Type.INTEGER, "wins",
+            s -> value(s.getGeneral(), General::getWins)),
+    GENERAL_LOSSES(Section.GENERAL, Type.INTEGER, "losses",
+            s -> value(s.getGeneral(), General::getLosses)),
+    GENERAL_MATCHES(Section.GENERAL, Type.INTEGER, "matchesplayed",
+            s -> value(s.getGeneral(), General::getMatches)),
+    GENERAL_TIME_PLAYED(Section.GENERAL, Type.LONG, "timeplayed",
+            s -> value(s.getGeneral(), General::getTimePlayed)),
+    GENERAL_REVIVES(Section.GENERAL, Type.INTEGER, "revives",
+            s -> value(s.getGeneral(), General::getRevives)),
+    GENERAL_MELEES(Section.GENERAL, Type.INTEGER, "melees",
+            s -> value(s.getGeneral(), General::getMelees)),
+    GENERAL_PENETRATIONS(Section.GENERAL, Type.INTEGER, "penetrations",
+            s -> value(s.getGeneral(), General::getPenetrations)),
+    GENERAL_ASSISTS(Section.GENERAL, Type.INTEGER, "assists",
+            s -> value(s.getGeneral(), General::getAssists)),
+    GENERAL_BULLETS_HIT(Section.GENERAL, Type.INTEGER, "bulletshit",
+            s -> value(s.getGeneral(), General::getBulletsHit)),
+    GENERAL_BULLETS_FIRED(Section.GENERAL, Type.INTEGER, "bulletsfired",
+            s -> value(s.getGeneral(), General::getBulletsfired)),
+    GENERAL_HEADSHOTS(Section.GENERAL, Type.INTEGER, "headshots",
+            s -> value(s.getGeneral(), General::getHeadshots)),
+    GENERAL_DISTANCE_TRAVELLED(Section.GENERAL, Type.LONG, "distancetravelled",
+            s -> value(s.getGeneral(), General::getTravelled)),
+    GENERAL_BARRICADES(Section.GENERAL, Type.INTEGER, "barricadedeployed",
+            s -> value(s.getGeneral(), General::getBarricades)),
+    GENERAL_REINFORCEMENTS(Section.GENERAL, Type.INTEGER, "reinforcementdeploy",
+            s -> value(s.getGeneral(), General::getReinforces)),
+    GENERAL_SUICIDES(Section.GENERAL, Type.INTEGER, "suicide",
+            s -> value(s.getGeneral(), General::getSuicides)),
+    GENERAL_KNOCKS(Section.GENERAL, Type.INTEGER, "dbno",
+            s -> value(s.getGeneral(), General::getKnocks)),
+    GENERAL_KNOCK_ASSISTS(Section.GENERAL, Type.INTEGER, "dbnoassists",
+            s -> value(s.getGeneral(), General::getKnockAssists)),
+    GENERAL_GADGETS_DESTROYED(Section.GENERAL, Type.INTEGER, "gadgetdestroy",
+            s -> value(s.getGeneral(), General::getGadgetsDestroyed)),
+    GENERAL_BLIND_KILLS(Section.GENERAL, Type.INTEGER, "blindkills",
+            s -> value(s.getGeneral(), General::getBlindKills)),
+    RANKED_KILLS(Section.RANKED, Type.INTEGER, "kills",
+            s -> value(s.getRanked(), Shared::getKills)),
+    RANKED_DEATHS(Section.RANKED, Type.INTEGER, "deaths",
+            s -> value(s.getRanked(), Shared::getDeaths)),
+    RANKED_WINS(Section.RANKED, Type.INTEGER, "wins",
+            s -> value(s.getRanked(), Shared::getWins)),
+    RANKED_LOSSES(Section.RANKED, Type.INTEGER, "losses",
+            s -> value(s.getRanked(), Shared::getLosses)),
+    RANKED_MATCHES(Section.RANKED, Type.INTEGER, "matchesplayed",
+            s -> value(s.getRanked(), Shared::getMatches)),
+    RANKED_TIME_PLAYED(Section.RANKED, Type.LONG, "timeplayed",
+            s -> value(s.getRanked(), Shared::getTimePlayed)),
+    CASUAL_KILLS(Section.CASUAL, Type.INTEGER, "kills",
+            s -> value(s.getCasual(), Shared::getKills)),
+    CASUAL_DEATHS(Section.CASUAL, Type.INTEGER, "deaths",
+            s -> value(s.getCasual(), Shared::getDeaths)),
+    CASUAL_WINS(Section.CASUAL, Type.INTEGER, "wins",
+            s -> value(s.getCasual(), Shared::getWins)),
+    CASUAL_LOSSES(Section.CASUAL, Type.INTEGER, "losses",
+            s -> value(s.getCasual(), Shared::getLosses)),
+    CASUAL_MATCHES(Section.CASUAL, Type.INTEGER, "matchesplayed",
+            s -> value(s.getCasual(), Shared::getMatches)),
+    CASUAL_TIME_PLAYED(Section.CASUAL, Type.LONG, "timeplayed",
+            s -> value(s.getCasual(), Shared::getTimePlayed)),
+    SEASONAL_RANKED_KILLS(Section.SEASONAL_RANKED, Type.INTEGER, "kills",
+            s -> value(seasonalRanked(s), Seasonal::getKills)),
+    SEASONAL_RANKED_DEATHS(Section.SEASONAL_RANKED, Type.INTEGER, "deaths",
+            s -> value(seasonalRanked(s), Seasonal::getDeaths)),
+    SEASONAL_RANKED_WINS(Section.SEASONAL_RANKED, Type.INTEGER, "wins",
+            s -> value(seasonalRanked(s), Seasonal::getWins)),
+    SEASONAL_RANKED_LOSSES(Section.SEASONAL_RANKED, Type.INTEGER, "losses",
+            s -> value(seasonalRanked(s), Seasonal::getLosses)),
+    SEASONAL_RANKED_MATCHES(Section.SEASONAL_RANKED, Type.INTEGER, "matchesplayed",
+            s -> value(seasonalRanked(s), Seasonal::getMatches)),
+    SEASONAL_RANKED_TIME_PLAYED(Section.SEASONAL_RANKED, Type.LONG, "timeplayed",
+            s -> value(seasonalRanked(s), Seasonal::getTimePlayed)),
+    SEASONAL_RANKED_MMR(Section.SEASONAL_RANKED, Type.INTEGER, "mmr",
+            s -> value(seasonalRanked(s), Seasonal::getMMR)),
+    SEASONAL_RANKED_SEASON(Section.SEASONAL_RANKED, Type.INTEGER, "season",
+            s -> value(seasonalRanked(s), Seasonal::getSeason)),
+    SEASONAL_RANKED_SKILL_SIGMA(Section.SEASONAL_RANKED, Type.DOUBLE, "skill_stdev",
+            s -> value(seasonalRanked(s), x -> Double.doubleToRawLongBits(x.getMatchmakingSigma()))),
+    SEASONAL_RANKED_MAX_RANK(Section.SEASONAL_RANKED, Type.INTEGER, "max_rank",
+            s -> value(seasonalRanked(s), Seasonal::getMaxRank)),
+    SEASONAL_RANKED_MAX_MMR(Section.SEASONAL_RANKED, Type.INTEGER, "max_mmr",
+            s -> value(seasonalRanked(s), Seasonal::getMaxMMR)),
+    SEASONAL_RANKED_ABANDONS(Section.SEASONAL_RANKED, Type.INTEGER, "abandons",
+            s -> value(seasonalRanked(s), Seasonal::getAbandons)),
+    SEASONAL_RANKED_LAST_MMR_CHANGE(Section.SEASONAL_RANKED, Type.INTEGER, "last_match_mmr_change",
+            s -> value(seasonalRanked(s), Seasonal::getLastChangeOfMMR)),
+    SEASONAL_RANKED_TOP_RANK_POSITION(Section.SEASONAL_RANKED, Type.INTEGER, "top_rank_position",
+            s -> value(seasonalRanked(s), Seasonal::getTopRankPosition)),
+    SEASONAL_RANKED_LAST_MATCH_RESULT(Section.SEASONAL_RANKED, Type.INTEGER, "last_match_result",
+            s -> value(seasonalRanked(s), Seasonal::getLastMatchResult)),
+    SEASONAL_RANKED_NEXT_RANK_MMR(Section.SEASONAL_RANKED, Type.INTEGER, "next_rank_mmr",
+            s -> value(seasonalRanked(s), Seasonal::getNextRankMMR)),
+    SEASONAL_RANKED_UPDATE_TIME(Section.SEASONAL_RANKED, Type.LONG, "update_time",
+            s -> value(seasonalRanked(s), Seasonal::getUpdateTime)),
+    SEASONAL_RANKED_NO_MATCHES_PLAYED(Section.SEASONAL_RANKED, Type.BOOLEAN, "noMatchesPlayed",
+            s -> value(seasonalRanked(s), x -> x.isNoMatchesPlayed() ? 1 : 0)),
+    SEASONAL_RANKED_BANNED(Section.SEASONAL_RANKED, Type.BOOLEAN, "banned",
+            s -> value(seasonalRanked(s), x -> x.isBanned() ? 1 : 0)),
+    SEASONAL_CASUAL_KILLS(Section.SEASONAL_CASUAL, Type.INTEGER, "kills",
+            s -> value(seasonalCasual(s), Seasonal::getKills)),
+    SEASONAL_CASUAL_DEATHS(Section.SEASONAL_CASUAL, Type.INTEGER, "deaths",
+            s -> value(seasonalCasual(s), Seasonal::getDeaths)),
+    SEASONAL_CASUAL_WINS(Section.SEASONAL_CASUAL, Type.INTEGER, "wins",
+            s -> value(seasonalCasual(s), Seasonal::getWins)),
+    SEASONAL_CASUAL_LOSSES(Section.SEASONAL_CASUAL, Type.INTEGER, "losses",
+            s -> value(seasonalCasual(s), Seasonal::getLosses)),
+    SEASONAL_CASUAL_MATCHES(Section.SEASONAL_CASUAL, Type.INTEGER, "matchesplayed",
+            s -> value(seasonalCasual(s), Seasonal::getMatches)),
+    SEASONAL_CASUAL_TIME_PLAYED(Section.SEASONAL_CASUAL, Type.LONG, "timeplayed",
+            s -> value(seasonalCasual(s), Seasonal::getTimePlayed)),
+    SEASONAL_CASUAL_MMR(Section.SEASONAL_CASUAL, Type.INTEGER, "mmr",
+            s -> value(seasonalCasual(s), Seasonal::getMMR)),
+    SEASONAL_CASUAL_SEASON(Section.SEASONAL_CASUAL, Type.INTEGER, "season",
+            s -> value(seasonalCasual(s), Seasonal::getSeason)),
+    SEASONAL_CASUAL_SKILL_SIGMA(Section.SEASONAL_CASUAL, Type.DOUBLE, "skill_stdev",
+            s -> value(seasonalCasual(s), x -> Double.doubleToRawLongBits(x.getMatchmakingSigma()))),
+    SEASONAL_CASUAL_MAX_RANK(Section.SEASONAL_CASUAL, Type.INTEGER, "max_rank",
+            s -> value(seasonalCasual(s), Seasonal::getMaxRank)),
+    SEASONAL_CASUAL_MAX_MMR(Section.SEASONAL_CASUAL, Type.INTEGER, "max_mmr",
+            s -> value(seasonalCasual(s), Seasonal::getMaxMMR)),
+    SEASONAL_CASUAL_ABANDONS(Section.SEASONAL_CASUAL, Type.INTEGER, "abandons",
+            s -> value(seasonalCasual(s), Seasonal::getAbandons)),
+    SEASONAL_CASUAL_LAST_MMR_CHANGE(Section.SEASONAL_CASUAL, Type.INTEGER, "last_match_mmr_change",
+            s -> value(seasonalCasual(s), Seasonal::getLastChangeOfMMR)),
+    SEASONAL_CASUAL_TOP_RANK_POSITION(Section.SEASONAL_CASUAL, Type.INTEGER, "top_rank_position",
+            s -> value(seasonalCasual(s), Seasonal::getTopRankPosition)),
+    SEASONAL_CASUAL_LAST_MATCH_RESULT(Section.SEASONAL_CASUAL, Type.INTEGER, "last_match_result",
+            s -> value(seasonalCasual(s), Seasonal::getLastMatchResult)),
+    SEASONAL_CASUAL_NEXT_RANK_MMR(Section.SEASONAL_CASUAL, Type.INTEGER, "next_rank_mmr",
+            s -> value(seasonalCasual(s), Seasonal::getNextRankMMR)),
+    SEASONAL_CASUAL_UPDATE_TIME(Section.SEASONAL_CASUAL, Type.LONG, "update_time",
+            s -> value(seasonalCasual(s), Seasonal::getUpdateTime)),
+    SEASONAL_CASUAL_NO_MATCHES_PLAYED(Section.SEASONAL_CASUAL, Type.BOOLEAN, "noMatchesPlayed",
+            s -> value(seasonalCasual(s), x -> x.isNoMatchesPlayed() ? 1 : 0)),
+    SEASONAL_CASUAL_BANNED(Section.SEASONAL_CASUAL, Type.BOOLEAN, "banned",
+            s -> value(seasonalCasual(s), x -> x.isBanned() ? 1 : 0)),
+    PROGRESSION_LEVEL(Section.PROGRESSION, Type.INTEGER, "level",
+            s -> value(s.getProgression(), Progression::getLevel)),
+    PROGRESSION_LOOTBOX_CHANCE(Section.PROGRESSION, Type.INTEGER, "lootbox_probability",
+            s -> value(s.getProgression(), Progression::getChance)),
+    PROGRESSION_XP(Section.PROGRESSION, Type.INTEGER, "xp",
+            s -> value(s.getProgression(), Progression::getXP));
+
+    /**
+     * The subtrees of the {@link SiegeStats}, that contain fields.
+     */
+    public enum Section {
+
+        GENERAL,
+        RANKED,
+        CASUAL,
+        SEASONAL_RANKED,
+        SEASONAL_CASUAL,
+        PROGRESSION
+
+    }
+
+    /**
+     * The types of field values.
+     */
+    public enum Type {
+
+        INTEGER,
+        LONG,
+
+        /**
+         * Values stored by their raw bits, see {@link Double#doubleToRawLongBits(double)}.
+         */
+        DOUBLE,
+
+        /**
+         * Values stored as {@code 0} (false) or {@code 1} (true).
+         */
+        BOOLEAN
+
+    }
+
+    /**
+     * All fields in order of their {@link #ordinal()}, without copying
+     * the array on every access like {@link #values()}.
+     */
+    private static final SiegeStatsField[] VALUES = values();
+
+    @NotNull
+    private final Section section;
+
+    @NotNull
+    private final Type type;
+
+    /**
+     * The name of the field within the JSON response.
+     */
+    @NotNull
+    private final String jsonName;
+
+    @NotNull
+    private final ToLongFunction<SiegeStats> getter;
+
+    SiegeStatsField(@NotNull Section section, @NotNull Type type,
+                    @NotNull String jsonName, @NotNull ToLongFunction<SiegeStats> getter) {
+        this.section = section;
+        this.type = type;
+        this.jsonName = jsonName;
+        this.getter = getter;
+    }
+
+    /**
+     * Returns the value of this field within the input {@code stats}.
+     *
+     * @param stats the statistics to read from
+     * @return the value as {@code long}, or {@code 0} if the subtree
+     * of this field is missing.
+     */
+    public long get(@NotNull SiegeStats stats) {
+        return getter.applyAsLong(Objects.requireNonNull(stats));
+    }
+
+    /**
+     * Returns the value of this field within the input {@code stats} as
+     * a {@code double}, decoding the raw bits of {@link Type#DOUBLE} fields.
+     *
+     * @param stats the statistics to read from
+     * @return the value as {@code double}.
+     */
+    public double getDouble(@NotNull SiegeStats stats) {
+        return toDouble(get(stats));
+    }
+
+    /**
+     * Converts the input {@code value} of this field to a {@code double},
+     * decoding the raw bits of {@link Type#DOUBLE} fields.
+     *
+     * @param value a value of this field
+     */
+    public double toDouble(long value) {
+        return type == Type.DOUBLE ? Double.longBitsToDouble(value) : value;
+    }
+
+    /**
+     * Returns the subtree this field belongs to.
+     */
+    @NotNull
+    public Section getSection() {
+        return section;
+    }
+
+    /**
+     * Returns the type of the values of this field.
+     */
+    @NotNull
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the name of this field within its subtree of the
+     * JSON response.
+     */
+    @NotNull
+    public String getJsonName() {
+        return jsonName;
+    }
+
+    /**
+     * Returns the values of all fields within the input {@code stats},
+     * indexed by the {@link #ordinal()} of their field.
+     *
+     * @param stats the statistics to read from, or null
+     * @return a new array of {@link #count()} values, all {@code 0}
+     * if the {@code stats} are null.
+     */
+    @NotNull
+    public static long[] snapshot(@Nullable SiegeStats stats) {
+        long[] values = new long[VALUES.length];
+        if (stats != null) {
+            for (int i = 0; i < VALUES.length; i++) {
+                values[i] = VALUES[i].getter.applyAsLong(stats);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Returns the field with the input {@code ordinal}.
+     *
+     * @param ordinal the ordinal of the field
+     * @throws IndexOutOfBoundsException - if there is no such field.
+     */
+    @NotNull
+    public static SiegeStatsField of(int ordinal) {
+        return VALUES[ordinal];
+    }
+
+    /**
+     * Returns the number of fields.
+     */
+    public static int count() {
+        return VALUES.length;
+    }
+
+    private static <S> long value(@Nullable S section, @NotNull ToLongFunction<S> getter) {
+        return section != null ? getter.applyAsLong(section) : 0;
+    }
+
+    @Nullable
+    private static Seasonal seasonalRanked(@NotNull SiegeStats stats) {
+        return stats.getSeasonal() != null ? stats.getSeasonal().getRanked() : null;
+    }
+
+    @Nullable
+    private static Seasonal seasonalCasual(@NotNull SiegeStats stats) {
+        return stats.getSeasonal() != null ? stats.getSeasonal().getCasual() : null;
+    }
+
+}
@@ -0,0 +1,49 @@
+package io.github.mindcubr.jsdb.deserialize.siege;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import io.github.mindcubr.jsdb.deserialize.Alias;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@link TypeAdapterFactory} that provides the hand-written and
+ * reflection-free {@link TypeAdapter type adapters} of every
+ * deserialized model of the game {@link io.github.mindcubr.jsdb.Game#SIEGE}.
+ * <p>The adapters are stateless and created once, so a {@link Gson}
+ * instance using this factory is cheap to use from multiple threads.
+ *
+ * @author mindcubr
+ * @since 1.0-0.3
+ */
+public final class SiegeTypeAdapterFactory implements TypeAdapterFactory {
+
+    /**
+     * The shared instance of this factory.
+     */
+    public static final SiegeTypeAdapterFactory INSTANCE = new SiegeTypeAdapterFactory();
+
+    private final Map<Class<?>, TypeAdapter<?>> adapters = new HashMap<>();
+
+    private SiegeTypeAdapterFactory() {
+        adapters.put(SiegePlayer.class, new SiegePlayer.Adapter());
+        adapters.put(SiegeUserStatus.class, new SiegeUserStatus.Adapter());
+        adapters.put(Alias.class, new Alias.Adapter());
+        adapters.put(SiegeStats.class, new SiegeStats.Adapter());
+        adapters.put(SiegeStats.SeasonalData.class, new SiegeStats.SeasonalData.Adapter());
+        adapters.put(SiegeStats.Seasonal.class, new SiegeStats.Seasonal.Adapter());
+        adapters.put(SiegeStats.General.class, new SiegeStats.General.Adapter());
+        adapters.put(SiegeStats.Shared.class, new SiegeStats.Shared.Adapter());
+        adapters.put(SiegeStats.Progression.class, new SiegeStats.Progression.Adapter());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        return (TypeAdapter<T>) adapters.get(type.getRawType());
+    }
+
+}
@@ -1,5 +1,14 @@
 package io.github.mindcubr.jsdb.deserialize.siege;
 
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import io.github.mindcubr.jsdb.deserialize.JsonUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
 /**
  * @author mindcubr
  * @since 1.0-0.1
@@ -45,4 +54,81 @@ public class SiegeUserStatus {
                 '}';
     }
 
+    /**
+     * Writes the input {@code value} in the binary format of the
+     * {@link SiegeCodec} into the {@code out} buffer.
+     *
+     * @param out   the buffer to write into
+     * @param value the status to write, or null
+     * @since 1.0-0.3
+     */
+    static void encode(ByteBuffer out, SiegeUserStatus value) {
+        out.put((byte) (value != null ? 1 : 0));
+        if (value == null)
+            return;
+        out.putInt(value.type);
+        out.put((byte) (value.game ? 1 : 0));
+    }
+
+    /**
+     * Reads a status written by {@link #encode(ByteBuffer, SiegeUserStatus)}.
+     *
+     * @param in the buffer to read from
+     * @return the status read, or null if null was written.
+     * @since 1.0-0.3
+     */
+    static SiegeUserStatus decode(ByteBuffer in) {
+        if (in.get() == 0)
+            return null;
+        SiegeUserStatus status = new SiegeUserStatus();
+        status.type = in.getInt();
+        status.game = in.get() != 0;
+        return status;
+    }
+
+    /**
+     * Reflection-free {@link TypeAdapter} of a {@link SiegeUserStatus}.
+     *
+     * @since 1.0-0.3
+     */
+    public static final class Adapter extends TypeAdapter<SiegeUserStatus> {
+
+        @Override
+        public void write(JsonWriter out, SiegeUserStatus value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+                return;
+            }
+            out.beginObject();
+            out.name("type").value(value.type);
+            out.name("game").value(value.game);
+            out.endObject();
+        }
+
+        @Override
+        public SiegeUserStatus read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            SiegeUserStatus status = new SiegeUserStatus();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "type":
+                        status.type = JsonUtils.nextInt(in);
+                        break;
+                    case "game":
+                        status.game = JsonUtils.nextBoolean(in);
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return status;
+        }
+
+    }
+
 }
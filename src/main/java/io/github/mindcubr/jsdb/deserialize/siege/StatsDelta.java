@@ -0,0 +1,216 @@
+package io.github.mindcubr.jsdb.deserialize.siege;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Compact and reusable record of the differences between two snapshots
+ * of {@link SiegeStats}, computed by the {@link SiegeStatsDiff}.
+ * <p>The changed fields are kept in a bitmask indexed by the ordinal of
+ * their {@link SiegeStatsField} and the differences in a primitive array,
+ * so a delta can be filled over and over again without allocating. The
+ * difference of a {@link SiegeStatsField.Type#DOUBLE double} field is
+ * stored by the raw bits of the difference, see {@link #getDouble}.
+ * <p>A delta is not thread-safe.
+ *
+ * @author mindcubr
+ * @since 1.0-0.3
+ */
+public final class StatsDelta {
+
+    /**
+     * The bitmask of changed fields, a bit per field ordinal.
+     */
+    @NotNull
+    private final long[] mask;
+
+    /**
+     * The differences of the changed fields, indexed by their ordinal.
+     */
+    @NotNull
+    private final long[] deltas;
+
+    private StatsDelta() {
+        this.mask = new long[(SiegeStatsField.count() + 63) >>> 6];
+        this.deltas = new long[SiegeStatsField.count()];
+    }
+
+    /**
+     * Returns whether no field has changed.
+     */
+    public boolean isEmpty() {
+        for (long word : mask) {
+            if (word != 0)
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of fields that have changed.
+     */
+    public int size() {
+        int size = 0;
+        for (long word : mask) {
+            size += Long.bitCount(word);
+        }
+        return size;
+    }
+
+    /**
+     * Returns whether the input {@code field} has changed.
+     *
+     * @param field the field to check
+     */
+    public boolean isChanged(@NotNull SiegeStatsField field) {
+        return isChanged(field.ordinal());
+    }
+
+    /**
+     * Returns whether the field with the input {@code ordinal} has changed.
+     *
+     * @param ordinal the ordinal of the field
+     */
+    public boolean isChanged(int ordinal) {
+        return (mask[ordinal >>> 6] & (1L << ordinal)) != 0;
+    }
+
+    /**
+     * Returns the ordinal of the next changed field, starting at the
+     * input {@code ordinal}, so the changes can be iterated without
+     * allocating:
+     * <pre>{@code
+     * for (int i = delta.nextChanged(0); i >= 0; i = delta.nextChanged(i + 1))
+     * }</pre>
+     *
+     * @param ordinal the ordinal to start at, inclusive
+     * @return the ordinal of the next changed field, or {@code -1} if none.
+     */
+    public int nextChanged(int ordinal) {
+        int index = ordinal >>> 6;
+        if (ordinal < 0 || index >= mask.length)
+            return -1;
+        long word = mask[index] & (-1L << ordinal);
+        while (true) {
+            if (word != 0)
+                return (index << 6) + Long.numberOfTrailingZeros(word);
+            if (++index == mask.length)
+                return -1;
+            word = mask[index];
+        }
+    }
+
+    /**
+     * Returns the difference of the input {@code field}, which is the
+     * current minus the previous value, or {@code 0} if unchanged.
+     * <p>For {@link SiegeStatsField.Type#DOUBLE double} fields, these are
+     * the raw bits of the difference.
+     *
+     * @param field the field
+     */
+    public long get(@NotNull SiegeStatsField field) {
+        return deltas[field.ordinal()];
+    }
+
+    /**
+     * Returns the difference of the input {@code field} as a {@code double},
+     * decoding the raw bits of {@link SiegeStatsField.Type#DOUBLE double}
+     * fields.
+     *
+     * @param field the field
+     */
+    public double getDouble(@NotNull SiegeStatsField field) {
+        return field.toDouble(get(field));
+    }
+
+    /**
+     * Returns a copy of the bitmask of changed fields, where the bit
+     * {@code ordinal % 64} of the word {@code ordinal / 64} is set if
+     * the field with that {@code ordinal} has changed.
+     */
+    @NotNull
+    public long[] getMask() {
+        return mask.clone();
+    }
+
+    /**
+     * Marks all fields as unchanged.
+     */
+    public void clear() {
+        Arrays.fill(mask, 0);
+        Arrays.fill(deltas, 0);
+    }
+
+    /**
+     * Returns a new copy of this delta, e.g. to keep it while this
+     * delta is reused.
+     */
+    @NotNull
+    public StatsDelta copy() {
+        StatsDelta copy = new StatsDelta();
+        System.arraycopy(mask, 0, copy.mask, 0, mask.length);
+        System.arraycopy(deltas, 0, copy.deltas, 0, deltas.length);
+        return copy;
+    }
+
+    /**
+     * Records the difference between the {@code previous} and {@code current}
+     * value of the field with the input {@code ordinal}.
+     */
+    void set(int ordinal, long previous, long current) {
+        if (previous == current) {
+            mask[ordinal >>> 6] &= ~(1L << ordinal);
+            deltas[ordinal] = 0;
+            return;
+        }
+        mask[ordinal >>> 6] |= 1L << ordinal;
+        if (SiegeStatsField.of(ordinal).getType() == SiegeStatsField.Type.DOUBLE) {
+            deltas[ordinal] = Double.doubleToRawLongBits(Double.longBitsToDouble(current)
+                    - Double.longBitsToDouble(previous));
+        } else {
+            deltas[ordinal] = current - previous;
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof StatsDelta)) return false;
+        StatsDelta that = (StatsDelta) o;
+        return Arrays.equals(mask, that.mask) && Arrays.equals(deltas, that.deltas);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(Arrays.hashCode(mask), Arrays.hashCode(deltas));
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("StatsDelta{");
+        for (int i = nextChanged(0); i >= 0; i = nextChanged(i + 1)) {
+            SiegeStatsField field = SiegeStatsField.of(i);
+            if (builder.length() > 11)
+                builder.append(", ");
+            builder.append(field).append('=');
+            if (field.getType() == SiegeStatsField.Type.DOUBLE)
+                builder.append(getDouble(field));
+            else
+                builder.append(get(field));
+        }
+        return builder.append('}').toString();
+    }
+
+    /**
+     * Creates a new and empty {@link StatsDelta}, that can be reused
+     * for any number of comparisons.
+     *
+     * @return a new delta instance.
+     */
+    public static StatsDelta create() {
+        return new StatsDelta();
+    }
+
+}
@@ -0,0 +1,29 @@
+package io.github.mindcubr.jsdb.exception;
+
+/**
+ * Exception thrown whenever a request is rejected by the server
+ * with <em>429: Too Many Requests</em>, because the quota of the
+ * application is exceeded.
+ *
+ * @author mindcubr
+ * @see JSDBFetchingException
+ * @since 1.0-0.3
+ */
+public class JSDBRateLimited extends JSDBFetchingException {
+
+    private final long retryAfter;
+
+    public JSDBRateLimited(String url, long retryAfter) {
+        super("The rate limit was exceeded while requesting URL '" + url + "'.", url);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Returns the milliseconds after which the server accepts requests
+     * again, or a negative number if the server did not tell.
+     */
+    public long getRetryAfter() {
+        return retryAfter;
+    }
+
+}
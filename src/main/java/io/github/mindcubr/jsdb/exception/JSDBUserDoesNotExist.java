@@ -25,6 +25,23 @@ public class JSDBUserDoesNotExist extends RuntimeException {
         this.username = username;
     }
 
+    /**
+     * Exception usually thrown during a fetch or request process
+     * to indicate that a certain URL or User is not existing or invalid.
+     * <p>If the stack trace is not writable, the exception is cheap to
+     * create, which is used when the user is already known to not exist.
+     *
+     * @param url                the url that failed to be fetched or loaded
+     * @param username           the username of the profile that does not exist
+     * @param writableStackTrace whether the stack trace should be filled in
+     * @author mindcubr
+     * @since 1.0-0.3
+     */
+    public JSDBUserDoesNotExist(String url, String username, boolean writableStackTrace) {
+        super("The user '" + username + "' does not exist.", null, false, writableStackTrace);
+        this.username = username;
+    }
+
     public String getUsername() {
         return username;
     }
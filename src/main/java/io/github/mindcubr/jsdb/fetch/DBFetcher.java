@@ -3,17 +3,44 @@ package io.github.mindcubr.jsdb.fetch;
 import io.github.mindcubr.jsdb.deserialize.User;
 import io.github.mindcubr.jsdb.deserialize.siege.SiegePlayer;
 import io.github.mindcubr.jsdb.exception.JSDBPlatformNotSupported;
+import io.github.mindcubr.jsdb.exception.JSDBRateLimited;
 import io.github.mindcubr.jsdb.exception.JSDBTokenInvalid;
 import io.github.mindcubr.jsdb.exception.JSDBUserDoesNotExist;
 import io.github.mindcubr.jsdb.fetch.http.DBResponse;
 import io.github.mindcubr.jsdb.Game;
 import io.github.mindcubr.jsdb.Platform;
+import io.github.mindcubr.jsdb.bridge.CircuitBreaker;
 import io.github.mindcubr.jsdb.bridge.DBBridge;
+import io.github.mindcubr.jsdb.bridge.RateLimiter;
+import io.github.mindcubr.jsdb.bridge.RetryPolicy;
+import io.github.mindcubr.jsdb.bridge.config.IFetchConfig;
 import io.github.mindcubr.jsdb.exception.JSDBFetchingException;
+import io.github.mindcubr.jsdb.fetch.cache.CachedResponse;
+import io.github.mindcubr.jsdb.fetch.cache.DiskCache;
+import io.github.mindcubr.jsdb.fetch.cache.ExpiringCache;
+import io.github.mindcubr.jsdb.fetch.cache.NameIndex;
+import io.github.mindcubr.jsdb.fetch.cache.NegativeCache;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.reactivestreams.Publisher;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 /**
  * A DBFetcher is a parent class that is used to create fetcher,
@@ -27,6 +54,9 @@ import java.util.Objects;
  * can vary from game to game; that is why it is abstract and requires
  * multiple subclass versions of this parent fetcher, depending
  * on the game(s).
+ * <p>Fetchers contain no shared mutable state, so one instance can
+ * be used by many threads at once. The number of requests in flight
+ * is limited by the {@link DBBridge} the fetcher is connected to.
  *
  * @param <T> the type of {@link User} that is dependent on the game.
  * @author mindcubr
@@ -47,28 +77,700 @@ public abstract class DBFetcher<T extends User> implements IDBFetcher<T> {
     @NotNull
     private final Game game;
 
+    /**
+     * The requests in flight mapped by their URL, so concurrent
+     * fetches of the same URL share one request.
+     */
+    @NotNull
+    private final SingleFlight<String, T> flights = new SingleFlight<>();
+
+    /**
+     * The fetched users mapped by the URL they were fetched from,
+     * or null if users are not cached.
+     */
+    @Nullable
+    private final ExpiringCache<String, CachedResponse<T>> cache;
+
+    /**
+     * The keys of users known to not exist, or null if missing users
+     * are not remembered.
+     */
+    @Nullable
+    private final NegativeCache missing;
+
+    /**
+     * The IDs of users mapped by their names, or null if names
+     * are not indexed.
+     */
+    @Nullable
+    private final NameIndex names;
+
     protected DBFetcher(@NotNull DBBridge bridge, @NotNull Game game) {
         this.bridge = Objects.requireNonNull(bridge);
         this.game = Objects.requireNonNull(game);
+        IFetchConfig config = bridge.getFetchConfig();
+        this.cache = config.getCacheTTL() > 0
+                ? ExpiringCache.create(config.getCacheTTL(), config.getCacheMaximumSize())
+                : null;
+        this.missing = config.getNegativeCacheTTL() > 0
+                ? NegativeCache.create(config.getNegativeCacheTTL(), config.getNegativeCacheExpectedSize())
+                : null;
+        this.names = config.getNameIndexTTL() > 0
+                ? NameIndex.create(config.getNameIndexTTL(), config.getNameIndexMaximumSize())
+                : null;
     }
 
     /**
      * Fetches an {@link SiegePlayer} instance from the input {@code url}.
+     * <p>Requests failing due to a transient issue are retried according
+     * to the {@link RetryPolicy} of the bridge, while requests to a host
+     * whose {@link CircuitBreaker} is open are rejected immediately.
+     * <p>Concurrent fetches of the same {@code url} are coalesced into one
+     * request, whose result is returned to every caller. If users are
+     * {@link IFetchConfig#getCacheTTL() cached}, a fresh cached user of the
+     * {@code url} is returned without any request, while an expired cached
+     * user is revalidated using a conditional request if possible.
+     * <p>A response persisted in the {@link DBBridge#getDiskCache() disk
+     * cache} is only used instead of a new request, if it was persisted
+     * within the {@link IFetchConfig#getCacheTTL() cache TTL}. Otherwise
+     * it is only used if the request fails, e.g. while the host is down.
      *
      * @param url the response being fetched from that URL
      * @return a new {@link SiegePlayer} instance from a response.
      * @throws JSDBFetchingException - if an exception occurs during the
-     * fetching or requesting process.
+     * fetching or requesting process, the host is unavailable or the thread
+     * is interrupted while waiting for a free request slot.
+     * @throws JSDBRateLimited - if the server rejected the request because
+     * the rate limit is exceeded.
+     */
+    public T fetchFromURL(@NotNull String url)
+            throws JSDBFetchingException {
+        Objects.requireNonNull(url);
+        CachedResponse<T> cached = cache != null ? cache.get(url) : null;
+        if (cached != null)
+            return cached.getValue();
+        //The first caller of an URL sends the request on its own thread
+        return await(flights.execute(url, Runnable::run,
+                () -> loadFromURL(url)), url);
+    }
+
+    /**
+     * Fetches an {@link SiegePlayer} instance from the input {@code url},
+     * without coalescing the request with concurrent requests.
+     *
+     * @see #fetchFromURL(String)
+     */
+    private T loadFromURL(@NotNull String url)
+            throws JSDBFetchingException {
+        try {
+            //Revalidate an expired user instead of downloading it again
+            ExpiringCache.Entry<CachedResponse<T>> entry = cache != null ? cache.getEntry(url) : null;
+            if (entry != null && entry.getValue().isRevalidatable())
+                return revalidate(url, entry.getValue());
+
+            //Serve the response persisted by this or a previous run, while fresh
+            final long freshness = bridge.getFetchConfig().getCacheTTL();
+            if (freshness > 0) {
+                T user = readPersisted(url, freshness);
+                if (user != null)
+                    return user;
+            }
+
+            return execute(url, response -> {
+                T user = readResponse(url, response);
+                if (cache != null)
+                    cache.put(url, CachedResponse.of(user, response));
+                return user;
+            });
+        } catch (JSDBFetchingException exc) {
+            //Serve the persisted response rather than failing
+            T user = readPersisted(url, Long.MAX_VALUE);
+            if (user == null)
+                throw exc;
+            return user;
+        }
+    }
+
+    /**
+     * Reads the user of the response persisted for the input {@code url}
+     * in the {@link DBBridge#getDiskCache() disk cache}, if it was persisted
+     * at most {@code maxAge} milliseconds ago.
+     * <p>The user is not cached in memory, so it is not served for longer
+     * than the {@code maxAge}. Unreadable responses are invalidated.
+     *
+     * @param url    the URL the response was fetched from
+     * @param maxAge the maximum milliseconds since the response was persisted
+     * @return the persisted user, or null if there is none.
+     */
+    @Nullable
+    private T readPersisted(@NotNull String url, long maxAge) {
+        final DiskCache disk = bridge.getDiskCache();
+        byte[] payload = disk != null ? disk.get(url, maxAge) : null;
+        if (payload == null)
+            return null;
+        try {
+            return readPlayer(new InputStreamReader(
+                    new ByteArrayInputStream(payload), StandardCharsets.UTF_8), url);
+        } catch (JSDBFetchingException | RuntimeException exc) {
+            //Fall back to a request if the payload is unreadable
+            invalidatePersisted(disk, url);
+            return null;
+        }
+    }
+
+    /**
+     * Invalidates the user fetched from the input {@code url}, so the next
+     * fetch of that URL sends a new request. This includes the user cached
+     * in memory and the response persisted in the
+     * {@link DBBridge#getDiskCache() disk cache}.
+     * <p>Users fetched by their name are cached for the URL of their ID
+     * as well, which has to be invalidated separately.
+     *
+     * @param url the URL the user was fetched from
+     * @since 1.0-0.3
+     */
+    public void invalidate(@NotNull String url) {
+        Objects.requireNonNull(url);
+        if (cache != null)
+            cache.invalidate(url);
+        final DiskCache disk = bridge.getDiskCache();
+        if (disk != null)
+            invalidatePersisted(disk, url);
+    }
+
+    private static void invalidatePersisted(@NotNull DiskCache disk, @NotNull String url) {
+        try {
+            disk.invalidate(url);
+        } catch (IOException exc) {
+            //The response is not served anymore, even if the tombstone is missing
+        }
+    }
+
+    /**
+     * Sends a request to the input {@code url} and reads the final response
+     * using the {@code reader}, without any caching.
+     * <p>Requests failing due to a transient issue are retried according
+     * to the {@link RetryPolicy} of the bridge, while requests to a host
+     * whose {@link CircuitBreaker} is open are rejected immediately. Every
+     * attempt holds a request permit of the bridge.
+     *
+     * @param url    the URL to send the request to
+     * @param reader the function reading the result of the final response
+     * @return the result read by the {@code reader}.
+     * @throws JSDBFetchingException - if the request fails, the host is
+     * unavailable or the thread is interrupted while waiting for a free
+     * request slot.
+     * @throws JSDBRateLimited - if the server rejected the request because
+     * the rate limit is exceeded.
+     * @since 1.0-0.3
+     */
+    protected <R> R execute(@NotNull String url, @NotNull ResponseReader<R> reader)
+            throws JSDBFetchingException {
+        Objects.requireNonNull(url);
+        Objects.requireNonNull(reader);
+        return execute(url, () -> bridge.request(url).json().auth().fetch(), reader);
+    }
+
+    /**
+     * Sends requests to the input {@code url} using the {@code sender} and
+     * reads the final response using the {@code reader}, as described by
+     * {@link #execute(String, ResponseReader)}.
+     *
+     * @param url    the URL the requests are sent to
+     * @param sender the function sending one request
+     * @param reader the function reading the result of the final response
+     * @return the result read by the {@code reader}.
+     */
+    private <R> R execute(@NotNull String url, @NotNull RequestSender sender,
+                          @NotNull ResponseReader<R> reader)
+            throws JSDBFetchingException {
+        final RetryPolicy policy = bridge.getFetchConfig().getRetryPolicy();
+        final CircuitBreaker breaker = bridge.getCircuitBreaker(url);
+        for (int attempt = 1; ; attempt++) {
+            //Fail fast while the host is degraded
+            if (breaker != null && !breaker.allowRequest()) {
+                throw new JSDBFetchingException("The host of URL '"
+                        + url + "' is currently unavailable.", url);
+            }
+            try {
+                bridge.acquireRequest();
+            } catch (InterruptedException exc) {
+                if (breaker != null)
+                    breaker.recordIgnored();
+                Thread.currentThread().interrupt();
+                throw new JSDBFetchingException(exc, url);
+            }
+
+            long delay;
+            //Fetch the response of the request, closed to release its connection
+            try (DBResponse response = sender.send()) {
+                final int code = response.getCode();
+                if (!policy.isRetryable(code)) {
+                    if (breaker != null)
+                        breaker.recordSuccess();
+                    return reader.read(response);
+                }
+
+                final long retryAfter = response.getRetryAfter();
+                if (code == 429) {
+                    //Slow down every fetcher sharing the bridge
+                    RateLimiter limiter = bridge.getRateLimiter();
+                    if (limiter != null)
+                        limiter.pause(retryAfter > 0 ? retryAfter
+                                : (long) Math.ceil(1000 / limiter.getPermitsPerSecond()));
+                    if (breaker != null)
+                        breaker.recordIgnored();
+                } else if (breaker != null) {
+                    breaker.recordFailure();
+                }
+
+                //A rejected request was not processed, so it is sent again regardless of its method
+                if (!policy.canRetry(attempt) || (code != 429
+                        && !policy.isRetryable(response.getResponse().request().method()))) {
+                    if (code == 429)
+                        throw new JSDBRateLimited(url, retryAfter);
+                    throw new JSDBFetchingException("The server responded with the code "
+                            + code + " on URL '" + url + "'.", url);
+                }
+                delay = Math.max(policy.getDelay(attempt), retryAfter);
+            } catch (IOException exc) {
+                if (breaker != null)
+                    breaker.recordFailure();
+                if (!policy.canRetry(attempt) || !policy.isRetryable(exc))
+                    throw new JSDBFetchingException(exc, url);
+                delay = policy.getDelay(attempt);
+            } catch (RuntimeException exc) {
+                if (breaker != null)
+                    breaker.recordIgnored();
+                throw exc;
+            } finally {
+                bridge.releaseRequest();
+            }
+
+            //Wait before the next attempt, without holding a request slot
+            try {
+                TimeUnit.MILLISECONDS.sleep(delay);
+            } catch (InterruptedException exc) {
+                Thread.currentThread().interrupt();
+                throw new JSDBFetchingException(exc, url);
+            }
+        }
+    }
+
+    /**
+     * Revalidates the input {@code cached} user of the {@code url} using
+     * a conditional request, keeping the cached user if it is not modified.
+     * <p>If the server responds with new content, that content is fetched
+     * and cached instead. The conditional request is retried and guarded
+     * by the {@link CircuitBreaker} like any other request.
+     *
+     * @param url    the URL the user was fetched from
+     * @param cached the expired cached user
+     * @return the valid user.
+     * @throws JSDBFetchingException - if the revalidation or the new content
+     * cannot be fetched, the host is unavailable or the thread is interrupted
+     * while waiting for a free request slot.
+     * @see #execute(String, ResponseReader)
      */
-    public synchronized T fetchFromURL(@NotNull String url)
+    private T revalidate(@NotNull String url, @NotNull CachedResponse<T> cached)
             throws JSDBFetchingException {
+        return execute(url, () -> DBResponse.of(bridge.getHttpClient()
+                .newCall(cached.toConditionalRequest()).execute(), bridge.request(url)), response -> {
+            if (response.isNotModified()) {
+                //Cache the same user again, which renews its time to live
+                cache.put(url, cached);
+                renewPersisted(url);
+                return cached.getValue();
+            }
+            T user = readResponse(url, response);
+            cache.put(url, CachedResponse.of(user, response));
+            return user;
+        });
+    }
+
+    /**
+     * Renews the time to live of the response persisted for the input
+     * {@code url}, after the server confirmed it is not modified.
+     */
+    private void renewPersisted(@NotNull String url) {
+        final DiskCache disk = bridge.getDiskCache();
+        if (disk == null)
+            return;
+        try {
+            disk.renew(url, bridge.getFetchConfig().getDiskCacheTTL());
+        } catch (IOException exc) {
+            //A full or unwritable disk does not fail the fetch
+        }
+    }
+
+    /**
+     * Fetches the user from the input {@code response} of the {@code url}
+     * and persists the body of successful responses in the
+     * {@link DBBridge#getDiskCache() disk cache}, if enabled.
+     *
+     * @param url      the URL the response was fetched from
+     * @param response the response to fetch the user from
+     * @return the fetched user.
+     * @throws IOException - if the body cannot be read.
+     * @throws JSDBFetchingException - if the user cannot be fetched.
+     */
+    private T readResponse(@NotNull String url, @NotNull DBResponse response)
+            throws IOException, JSDBFetchingException {
+        final DiskCache disk = bridge.getDiskCache();
+        if (disk == null || response.getCode() != 200)
+            return fetchPlayerFromResponse(response);
+        //Read the body once, so it can be parsed and persisted
+        byte[] payload = response.getBytes();
+        T user = readPlayer(response.getReader(), url);
         try {
-            //Fetch the response of the request
-            return fetchPlayerFromResponse(bridge.request(url)
-                    .json().auth().fetch());
+            disk.put(url, payload, bridge.getFetchConfig().getDiskCacheTTL());
         } catch (IOException exc) {
-            throw new JSDBFetchingException(exc, url);
+            //A full or unwritable disk does not fail the fetch
         }
+        return user;
+    }
+
+    /**
+     * Fetches an {@link SiegePlayer} instance from the input {@code url}
+     * without blocking the calling thread.
+     * <p>The request is run on the {@link DBBridge#getExecutor() executor}
+     * of the bridge and the returned future is completed exceptionally
+     * with the exception {@link #fetchFromURL(String)} would have thrown.
+     *
+     * @param url the response being fetched from that URL
+     * @return a future completed with the fetched instance.
+     * @since 1.0-0.3
+     */
+    @Override
+    public CompletableFuture<T> fetchFromURLAsync(@NotNull String url) {
+        Objects.requireNonNull(url);
+        CachedResponse<T> cached = cache != null ? cache.get(url) : null;
+        if (cached != null)
+            return CompletableFuture.completedFuture(cached.getValue());
+        return flights.execute(url, bridge.getExecutor(), () -> loadFromURL(url));
+    }
+
+    /**
+     * Fetches the user of the input {@code url}, unless the {@code key}
+     * of that user is known to not exist, in which case a
+     * {@link JSDBUserDoesNotExist} without stack trace is thrown
+     * immediately. Users found to not exist are remembered by their key.
+     *
+     * @param key      the key of the user, see {@link #nameKey(Platform, String)}
+     *                 and {@link #idKey(String)}
+     * @param username the name or ID of the user used in exceptions
+     * @param url      the URL to fetch the user from
+     * @return the fetched user.
+     * @throws JSDBUserDoesNotExist - if the user does not exist.
+     * @throws JSDBFetchingException - if the user cannot be fetched.
+     * @see #fetchFromURL(String)
+     * @since 1.0-0.3
+     */
+    protected T fetchExisting(@NotNull String key, String username, @NotNull String url)
+            throws JSDBUserDoesNotExist, JSDBFetchingException {
+        if (missing != null && missing.contains(key))
+            throw new JSDBUserDoesNotExist(url, username, false);
+        try {
+            return fetchFromURL(url);
+        } catch (JSDBUserDoesNotExist exc) {
+            if (missing != null)
+                missing.put(key);
+            throw exc;
+        }
+    }
+
+    /**
+     * Sends a request to the input {@code url} and reads the final response
+     * using the {@code reader}, unless the {@code key} of the user is known
+     * to not exist, in which case a {@link JSDBUserDoesNotExist} without
+     * stack trace is thrown immediately. Users the {@code reader} finds to
+     * not exist are remembered by their key.
+     * <p>Unlike {@link #fetchExisting(String, String, String)}, the result
+     * is not cached, e.g. for users that are only partially read.
+     *
+     * @param key      the key of the user, see {@link #nameKey(Platform, String)}
+     *                 and {@link #idKey(String)}
+     * @param username the name or ID of the user used in exceptions
+     * @param url      the URL to send the request to
+     * @param reader   the function reading the result of the final response
+     * @return the result read by the {@code reader}.
+     * @throws JSDBUserDoesNotExist - if the user does not exist.
+     * @throws JSDBFetchingException - if the request fails.
+     * @see #execute(String, ResponseReader)
+     * @since 1.0-0.3
+     */
+    protected <R> R executeExisting(@NotNull String key, String username, @NotNull String url,
+                                    @NotNull ResponseReader<R> reader)
+            throws JSDBUserDoesNotExist, JSDBFetchingException {
+        if (missing != null && missing.contains(key))
+            throw new JSDBUserDoesNotExist(url, username, false);
+        try {
+            return execute(url, reader);
+        } catch (JSDBUserDoesNotExist exc) {
+            if (missing != null)
+                missing.put(key);
+            throw exc;
+        }
+    }
+
+    /**
+     * Fetches the user of the input {@code url} without blocking the
+     * calling thread, unless the {@code key} of that user is known to not
+     * exist, in which case the returned future is already completed.
+     *
+     * @param key      the key of the user
+     * @param username the name or ID of the user used in exceptions
+     * @param url      the URL to fetch the user from
+     * @return a future completed with the fetched user.
+     * @see #fetchExisting(String, String, String)
+     * @since 1.0-0.3
+     */
+    protected CompletableFuture<T> fetchExistingAsync(@NotNull String key, String username,
+                                                      @NotNull String url) {
+        if (missing != null && missing.contains(key)) {
+            CompletableFuture<T> future = new CompletableFuture<>();
+            future.completeExceptionally(new JSDBUserDoesNotExist(url, username, false));
+            return future;
+        }
+        CompletableFuture<T> future = fetchFromURLAsync(url);
+        if (missing == null)
+            return future;
+        return future.whenComplete((user, exc) -> {
+            Throwable cause = exc instanceof CompletionException && exc.getCause() != null
+                    ? exc.getCause() : exc;
+            if (cause instanceof JSDBUserDoesNotExist)
+                missing.put(key);
+        });
+    }
+
+    /**
+     * Returns whether the user with the input {@code name} on the
+     * {@code platform} is known to not exist, so fetching it would fail
+     * without a request.
+     *
+     * @param platform the platform of the user
+     * @param name     the name of the user
+     * @since 1.0-0.3
+     */
+    public boolean isKnownMissing(@NotNull Platform platform, @NotNull String name) {
+        return missing != null && missing.contains(nameKey(platform, name));
+    }
+
+    /**
+     * Returns whether the user with the input {@code id} is known to
+     * not exist, so fetching it would fail without a request.
+     *
+     * @param id the ID of the user
+     * @since 1.0-0.3
+     */
+    public boolean isKnownMissingID(@NotNull String id) {
+        return missing != null && missing.contains(idKey(id));
+    }
+
+    /**
+     * Returns the key identifying the user with the input {@code name}
+     * on the {@code platform}. Names are compared case-insensitively.
+     *
+     * @param platform the platform of the user
+     * @param name     the name of the user
+     * @since 1.0-0.3
+     */
+    @NotNull
+    protected static String nameKey(@NotNull Platform platform, @NotNull String name) {
+        return NameIndex.key(platform, name);
+    }
+
+    /**
+     * Caches the input {@code user} for the {@code url} as well, e.g. for
+     * the URL of its ID after it was fetched by its name, so fetching it
+     * by either key hits the cache.
+     * <p>A user already cached for the {@code url} is kept with its expiry,
+     * so a user returned from the cache does not renew its time to live.
+     *
+     * @param url  the further URL the user can be fetched from
+     * @param user the fetched user
+     * @since 1.0-0.3
+     */
+    protected void cacheAs(@NotNull String url, @NotNull T user) {
+        if (cache != null)
+            cache.putIfAbsent(url, CachedResponse.of(user));
+    }
+
+    /**
+     * Returns the key identifying the user with the input {@code id}.
+     *
+     * @param id the ID of the user
+     * @since 1.0-0.3
+     */
+    @NotNull
+    protected static String idKey(@NotNull String id) {
+        return "id:" + id;
+    }
+
+    /**
+     * Waits for the input {@code future} and returns its result, or
+     * rethrows the exception it was completed with.
+     *
+     * @param future the future to wait for
+     * @param url    the URL the future is fetching
+     * @return the result of the {@code future}.
+     * @throws JSDBFetchingException - if the future completed with it, or
+     * with any other checked exception.
+     */
+    protected static <V> V await(@NotNull CompletableFuture<V> future, String url)
+            throws JSDBFetchingException {
+        try {
+            return future.join();
+        } catch (CompletionException exc) {
+            Throwable cause = exc.getCause() != null ? exc.getCause() : exc;
+            if (cause instanceof JSDBFetchingException)
+                throw (JSDBFetchingException) cause;
+            if (cause instanceof RuntimeException)
+                throw (RuntimeException) cause;
+            if (cause instanceof Error)
+                throw (Error) cause;
+            throw new JSDBFetchingException(cause, url);
+        }
+    }
+
+    /**
+     * Fetches every key of the input {@code keys} in parallel using the
+     * input asynchronous {@code fetcher} and waits until all of them
+     * are completed.
+     * <p>At most {@link IFetchConfig#getMaxConcurrentRequests()} lookups
+     * are in flight at once, as the next key is only fetched once a
+     * previous lookup completed. Duplicate keys are only fetched once.
+     * If the calling thread is interrupted, the keys not fetched yet
+     * fail with the {@link InterruptedException}.
+     *
+     * @param keys    the keys to fetch, so for example names or IDs
+     * @param fetcher the function starting the fetch of one key
+     * @return the results mapped by their key, in the order of the input.
+     * @throws NullPointerException - if any key is null, before any key
+     * is fetched.
+     * @since 1.0-0.3
+     */
+    protected Map<String, FetchResult<T>> fetchAll(@NotNull Collection<String> keys,
+                                                   @NotNull Function<String, CompletableFuture<T>> fetcher) {
+        Objects.requireNonNull(keys);
+        Objects.requireNonNull(fetcher);
+        Set<String> distinct = new LinkedHashSet<>();
+        for (String key : keys) {
+            distinct.add(Objects.requireNonNull(key));
+        }
+
+        final Semaphore window = new Semaphore(bridge.getFetchConfig().getMaxConcurrentRequests());
+        Map<String, CompletableFuture<T>> futures = new LinkedHashMap<>();
+        InterruptedException interrupted = null;
+        for (String key : distinct) {
+            CompletableFuture<T> future;
+            if (interrupted == null) {
+                try {
+                    window.acquire();
+                } catch (InterruptedException exc) {
+                    Thread.currentThread().interrupt();
+                    interrupted = exc;
+                }
+            }
+            if (interrupted != null) {
+                future = new CompletableFuture<>();
+                future.completeExceptionally(interrupted);
+            } else {
+                try {
+                    future = fetcher.apply(key);
+                } catch (RuntimeException exc) {
+                    //Invalid input of a single key, e.g. a blank name
+                    future = new CompletableFuture<>();
+                    future.completeExceptionally(exc);
+                }
+                future.whenComplete((user, exc) -> window.release());
+            }
+            futures.put(key, future);
+        }
+
+        Map<String, FetchResult<T>> results = new LinkedHashMap<>();
+        for (Map.Entry<String, CompletableFuture<T>> entry : futures.entrySet()) {
+            String key = entry.getKey();
+            try {
+                results.put(key, FetchResult.success(key, entry.getValue().join()));
+            } catch (CompletionException exc) {
+                results.put(key, FetchResult.failure(key, exc));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Fetches multiple users by their {@code ids} in parallel.
+     * <p>One result is returned per distinct ID, containing either the user
+     * or the failure of that lookup, so one failed lookup does not abort the
+     * batch.
+     *
+     * @param ids the IDs of the target users.
+     * @return the results mapped by their ID, in the order of the input.
+     * @see #fetchPlayerByIDAsync(String)
+     * @since 1.0-0.3
+     */
+    public Map<String, FetchResult<T>> fetchPlayersByID(@NotNull Collection<String> ids) {
+        return fetchAll(ids, this::fetchPlayerByIDAsync);
+    }
+
+    /**
+     * Fetches multiple users by their {@code names} in parallel.
+     * <p>One result is returned per distinct name, containing either the user
+     * or the failure of that lookup, so one failed lookup does not abort the
+     * batch.
+     *
+     * @param platform the target platform to search for
+     * @param names    the names of the target users.
+     * @return the results mapped by their name, in the order of the input.
+     * @throws JSDBPlatformNotSupported if the target {@code platform} is not
+     * compatible with this game.
+     * @see #fetchPlayerByNameAsync(Platform, String)
+     * @since 1.0-0.3
+     */
+    public Map<String, FetchResult<T>> fetchPlayersByName(@NotNull Platform platform,
+                                                          @NotNull Collection<String> names) {
+        Objects.requireNonNull(platform);
+        checkPlatform(platform);
+        return fetchAll(names, name -> fetchPlayerByNameAsync(platform, name));
+    }
+
+    /**
+     * Returns a {@link Publisher} fetching the users of the input {@code ids}
+     * and emitting their results as soon as they are completed.
+     * <p>IDs are consumed lazily as results are requested and at most
+     * {@link IFetchConfig#getMaxConcurrentRequests()} lookups are in flight
+     * at once, so the iterator can stream millions of IDs, e.g. from a file.
+     *
+     * @param ids the IDs of the target users
+     * @return a new publisher that can be subscribed once.
+     * @see FetchPublisher
+     * @since 1.0-0.3
+     */
+    public Publisher<FetchResult<T>> publishPlayersByID(@NotNull Iterator<String> ids) {
+        return FetchPublisher.of(ids, this::fetchPlayerByIDAsync,
+                bridge.getFetchConfig().getMaxConcurrentRequests());
+    }
+
+    /**
+     * Returns a {@link Publisher} fetching the users of the input {@code names}
+     * and emitting their results as soon as they are completed.
+     *
+     * @param platform the target platform to search for
+     * @param names    the names of the target users
+     * @return a new publisher that can be subscribed once.
+     * @throws JSDBPlatformNotSupported if the target {@code platform} is not
+     * compatible with this game.
+     * @see #publishPlayersByID(Iterator)
+     * @since 1.0-0.3
+     */
+    public Publisher<FetchResult<T>> publishPlayersByName(@NotNull Platform platform,
+                                                          @NotNull Iterator<String> names) {
+        Objects.requireNonNull(platform);
+        checkPlatform(platform);
+        return FetchPublisher.of(names, name -> fetchPlayerByNameAsync(platform, name),
+                bridge.getFetchConfig().getMaxConcurrentRequests());
     }
 
     /**
@@ -98,6 +800,53 @@ public abstract class DBFetcher<T extends User> implements IDBFetcher<T> {
         }
     }
 
+    /**
+     * Returns the {@link DBBridge} this fetcher is connected to.
+     */
+    @NotNull
+    public DBBridge getBridge() {
+        return bridge;
+    }
+
+    /**
+     * Returns the cache of fetched users mapped by the URL they were
+     * fetched from, or null if users are not cached.
+     * <p>The cache can be used to monitor its hits, misses and evictions.
+     * Single users should be invalidated using {@link #invalidate(String)},
+     * which invalidates their persisted responses as well.
+     *
+     * @see IFetchConfig#getCacheTTL()
+     * @since 1.0-0.3
+     */
+    @Nullable
+    public ExpiringCache<String, CachedResponse<T>> getCache() {
+        return cache;
+    }
+
+    /**
+     * Returns the cache of users known to not exist, or null if missing
+     * users are not remembered.
+     *
+     * @see IFetchConfig#getNegativeCacheTTL()
+     * @since 1.0-0.3
+     */
+    @Nullable
+    public NegativeCache getNegativeCache() {
+        return missing;
+    }
+
+    /**
+     * Returns the index resolving names of users to their IDs, or null
+     * if names are not indexed.
+     *
+     * @see IFetchConfig#getNameIndexTTL()
+     * @since 1.0-0.3
+     */
+    @Nullable
+    public NameIndex getNameIndex() {
+        return names;
+    }
+
     /**
      * Returns this {@link #game} value, that this subclass fetcher
      * instance is supporting and made for.
@@ -120,6 +869,19 @@ public abstract class DBFetcher<T extends User> implements IDBFetcher<T> {
     public abstract T fetchPlayerFromResponse(@NotNull DBResponse response)
             throws JSDBFetchingException;
 
+    /**
+     * Reads a user from the input {@code body} of a successful response,
+     * which was either received or read from a {@link DiskCache}.
+     *
+     * @param body the body of the response
+     * @param url  the URL the body was fetched from
+     * @return a new user instance made up off the {@code body}.
+     * @throws JSDBFetchingException - if the body cannot be deserialized.
+     * @since 1.0-0.3
+     */
+    protected abstract T readPlayer(@NotNull Reader body, @NotNull String url)
+            throws JSDBFetchingException;
+
     /**
      * Fetches an {@link SiegePlayer} with the input {@code id}, if existing.
      *
@@ -148,4 +910,14 @@ public abstract class DBFetcher<T extends User> implements IDBFetcher<T> {
                                         final @NotNull String name)
             throws JSDBUserDoesNotExist, JSDBFetchingException, JSDBTokenInvalid;
 
+    /**
+     * A function sending one request.
+     */
+    @FunctionalInterface
+    private interface RequestSender {
+
+        DBResponse send() throws IOException;
+
+    }
+
 }
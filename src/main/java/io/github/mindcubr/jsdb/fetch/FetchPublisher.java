@@ -0,0 +1,256 @@
+package io.github.mindcubr.jsdb.fetch;
+
+import io.github.mindcubr.jsdb.deserialize.User;
+import org.apache.commons.lang3.Validate;
+import org.jetbrains.annotations.NotNull;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * {@link Publisher} fetching the users of a possibly huge number of keys,
+ * such as names or IDs, and emitting one {@link FetchResult} per key as
+ * soon as its lookup is completed.
+ * <p>Keys are taken from the input {@link Iterator} only while the
+ * subscriber has requested results that are not yet fetched, and at most
+ * a fixed number of lookups are in flight at once. Neither the keys nor
+ * the results are therefore held in memory at once. A failed lookup is
+ * emitted as a failed result and does not terminate the stream.
+ * <p>The publisher is unicast and can only be subscribed once, as it
+ * consumes its iterator.
+ *
+ * @param <T> the type of {@link User} that is fetched.
+ * @author mindcubr
+ * @since 1.0-0.3
+ */
+public class FetchPublisher<T extends User> implements Publisher<FetchResult<T>> {
+
+    @NotNull
+    private final Iterator<String> keys;
+
+    @NotNull
+    private final Function<String, CompletableFuture<T>> fetcher;
+
+    private final int maxInFlight;
+
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    protected FetchPublisher(@NotNull Iterator<String> keys,
+                             @NotNull Function<String, CompletableFuture<T>> fetcher,
+                             int maxInFlight) {
+        this.keys = keys;
+        this.fetcher = fetcher;
+        this.maxInFlight = maxInFlight;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super FetchResult<T>> subscriber) {
+        Objects.requireNonNull(subscriber);
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(EmptySubscription.INSTANCE);
+            subscriber.onError(new IllegalStateException(
+                    "The publisher can only be subscribed once."));
+            return;
+        }
+        FetchSubscription subscription = new FetchSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+        subscription.drain();
+    }
+
+    /**
+     * Creates a new {@link FetchPublisher}.
+     *
+     * @param keys        the keys to fetch, which are consumed lazily
+     * @param fetcher     the function starting the fetch of one key
+     * @param maxInFlight the maximum number of lookups in flight at once
+     * @return a new {@link FetchPublisher} instance.
+     * @throws IllegalArgumentException - if {@code maxInFlight} is not positive.
+     */
+    public static <T extends User> FetchPublisher<T> of(@NotNull Iterator<String> keys,
+                                                        @NotNull Function<String, CompletableFuture<T>> fetcher,
+                                                        int maxInFlight) {
+        Objects.requireNonNull(keys);
+        Objects.requireNonNull(fetcher);
+        Validate.isTrue(maxInFlight > 0, "The maximum in flight must be positive.");
+        return new FetchPublisher<>(keys, fetcher, maxInFlight);
+    }
+
+    /**
+     * The subscription of the only subscriber, which serializes all
+     * signals within its {@link #drain()} loop.
+     */
+    private final class FetchSubscription implements Subscription {
+
+        @NotNull
+        private final Subscriber<? super FetchResult<T>> subscriber;
+
+        /**
+         * The completed results that are not yet emitted.
+         */
+        private final Queue<FetchResult<T>> ready = new ConcurrentLinkedQueue<>();
+
+        /**
+         * The number of results requested and not yet emitted.
+         */
+        private final AtomicLong demand = new AtomicLong();
+
+        /**
+         * The number of lookups that are not yet completed.
+         */
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        /**
+         * The number of drain requests, so only one thread drains at once.
+         */
+        private final AtomicInteger wip = new AtomicInteger();
+
+        /**
+         * The number of lookups started and not yet emitted, which is
+         * only accessed while draining.
+         */
+        private long outstanding;
+
+        /**
+         * Whether the iterator has no more keys, which is only accessed
+         * while draining.
+         */
+        private boolean exhausted;
+
+        private volatile boolean cancelled;
+
+        /**
+         * The error to signal by the drain loop, or null.
+         */
+        private volatile RuntimeException error;
+
+        private FetchSubscription(@NotNull Subscriber<? super FetchResult<T>> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                //Signalled by the drain loop, so it never overlaps onNext
+                error = new IllegalArgumentException(
+                        "The requested amount must be positive, but was " + n + ".");
+                drain();
+                return;
+            }
+            long current, next;
+            do {
+                current = demand.get();
+                next = current + n < 0 ? Long.MAX_VALUE : current + n;
+            } while (!demand.compareAndSet(current, next));
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        /**
+         * Emits completed results and starts new lookups for the outstanding
+         * demand. Concurrent calls are merged into the running loop.
+         */
+        private void drain() {
+            if (wip.getAndIncrement() != 0)
+                return;
+            int missed = 1;
+            do {
+                if (cancelled) {
+                    ready.clear();
+                    return;
+                }
+                if (error != null) {
+                    cancelled = true;
+                    subscriber.onError(error);
+                    return;
+                }
+                FetchResult<T> result;
+                while (demand.get() > 0 && (result = ready.poll()) != null) {
+                    outstanding--;
+                    if (demand.get() != Long.MAX_VALUE)
+                        demand.decrementAndGet();
+                    subscriber.onNext(result);
+                    if (cancelled)
+                        return;
+                }
+
+                //Start further lookups, as long as results are requested
+                try {
+                    while (!exhausted && outstanding < demand.get()
+                            && inFlight.get() < maxInFlight) {
+                        if (!keys.hasNext()) {
+                            exhausted = true;
+                            break;
+                        }
+                        String key = Objects.requireNonNull(keys.next(),
+                                "The keys must not contain null.");
+                        outstanding++;
+                        inFlight.incrementAndGet();
+                        start(key);
+                    }
+                } catch (RuntimeException exc) {
+                    cancelled = true;
+                    subscriber.onError(exc);
+                    return;
+                }
+
+                if (exhausted && outstanding == 0) {
+                    cancelled = true;
+                    subscriber.onComplete();
+                    return;
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void start(@NotNull String key) {
+            CompletableFuture<T> future;
+            try {
+                future = fetcher.apply(key);
+            } catch (RuntimeException exc) {
+                //Invalid input of a single key, e.g. a blank name
+                future = new CompletableFuture<>();
+                future.completeExceptionally(exc);
+            }
+            future.whenComplete((user, exc) -> {
+                ready.offer(exc == null
+                        ? FetchResult.success(key, user)
+                        : FetchResult.failure(key, exc));
+                inFlight.decrementAndGet();
+                drain();
+            });
+        }
+
+    }
+
+    /**
+     * Subscription of rejected subscribers, that ignores all signals.
+     */
+    private enum EmptySubscription implements Subscription {
+
+        INSTANCE;
+
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+
+    }
+
+}
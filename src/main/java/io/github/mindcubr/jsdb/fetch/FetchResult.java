@@ -0,0 +1,145 @@
+package io.github.mindcubr.jsdb.fetch;
+
+import io.github.mindcubr.jsdb.deserialize.User;
+import io.github.mindcubr.jsdb.exception.JSDBFetchingException;
+import io.github.mindcubr.jsdb.exception.JSDBTokenInvalid;
+import io.github.mindcubr.jsdb.exception.JSDBUserDoesNotExist;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.concurrent.CompletionException;
+
+/**
+ * The result of one lookup within a batch of lookups, containing
+ * either the fetched user or the exception that caused its failure.
+ * <p>A failure of one lookup does not affect the other lookups of
+ * the same batch, so every input key has its own result.
+ *
+ * @param <T> the type of {@link User} that was fetched.
+ * @author mindcubr
+ * @since 1.0-0.3
+ */
+public final class FetchResult<T extends User> {
+
+    /**
+     * The input key of the lookup, so for example a name or ID.
+     */
+    @NotNull
+    private final String key;
+
+    @Nullable
+    private final T value;
+
+    @Nullable
+    private final Throwable failure;
+
+    private FetchResult(@NotNull String key, @Nullable T value,
+                        @Nullable Throwable failure) {
+        this.key = key;
+        this.value = value;
+        this.failure = failure;
+    }
+
+    /**
+     * Returns the input key of the lookup, so for example a name or ID.
+     */
+    @NotNull
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Returns whether the lookup succeeded and a value is present.
+     */
+    public boolean isSuccess() {
+        return failure == null;
+    }
+
+    /**
+     * Returns the fetched user, or null if the lookup failed.
+     */
+    @Nullable
+    public T getValue() {
+        return value;
+    }
+
+    /**
+     * Returns the exception that caused the lookup to fail, or null if
+     * the lookup succeeded.
+     * <p>This is usually a {@link JSDBUserDoesNotExist}, {@link JSDBTokenInvalid}
+     * or {@link JSDBFetchingException}.
+     */
+    @Nullable
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    /**
+     * Returns whether the lookup failed because the user does not exist.
+     */
+    public boolean isUserNotExisting() {
+        return failure instanceof JSDBUserDoesNotExist;
+    }
+
+    /**
+     * Returns the fetched user or rethrows the exception that caused
+     * the lookup to fail.
+     *
+     * @return the fetched user.
+     * @throws JSDBFetchingException - if the lookup failed with it, or with
+     * an exception that is neither unchecked nor a {@link JSDBFetchingException}.
+     */
+    public T get() throws JSDBFetchingException {
+        if (failure == null)
+            return value;
+        if (failure instanceof JSDBFetchingException)
+            throw (JSDBFetchingException) failure;
+        if (failure instanceof RuntimeException)
+            throw (RuntimeException) failure;
+        if (failure instanceof Error)
+            throw (Error) failure;
+        throw new JSDBFetchingException(failure, key);
+    }
+
+    @Override
+    public String toString() {
+        return "FetchResult{" +
+                "key='" + key + '\'' +
+                ", value=" + value +
+                ", failure=" + failure +
+                '}';
+    }
+
+    /**
+     * Creates a successful result of the input {@code key}.
+     *
+     * @param key   the input key of the lookup
+     * @param value the fetched user
+     * @return a new successful {@link FetchResult}.
+     */
+    public static <T extends User> FetchResult<T> success(@NotNull String key,
+                                                          @NotNull T value) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+        return new FetchResult<>(key, value, null);
+    }
+
+    /**
+     * Creates a failed result of the input {@code key}.
+     * <p>A {@link CompletionException} is unwrapped to its cause.
+     *
+     * @param key     the input key of the lookup
+     * @param failure the exception that caused the failure
+     * @return a new failed {@link FetchResult}.
+     */
+    public static <T extends User> FetchResult<T> failure(@NotNull String key,
+                                                          @NotNull Throwable failure) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(failure);
+        if (failure instanceof CompletionException && failure.getCause() != null)
+            failure = failure.getCause();
+        return new FetchResult<>(key, null, failure);
+    }
+
+}
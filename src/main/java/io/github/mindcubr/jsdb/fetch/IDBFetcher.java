@@ -1,10 +1,15 @@
 package io.github.mindcubr.jsdb.fetch;
 
+import io.github.mindcubr.jsdb.Platform;
 import io.github.mindcubr.jsdb.deserialize.User;
+import io.github.mindcubr.jsdb.exception.JSDBTokenInvalid;
+import io.github.mindcubr.jsdb.exception.JSDBUserDoesNotExist;
 import io.github.mindcubr.jsdb.fetch.http.DBResponse;
 import io.github.mindcubr.jsdb.exception.JSDBFetchingException;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * No description available.
  *
@@ -17,4 +22,38 @@ public interface IDBFetcher<T extends User> {
 
     T fetchPlayerFromResponse(@NotNull DBResponse response) throws JSDBFetchingException;
 
+    /**
+     * Asynchronous version of {@link #fetchFromURL(String)}.
+     * <p>The returned future is completed exceptionally with the
+     * exception the blocking version would have thrown, so for example
+     * with an {@link JSDBUserDoesNotExist} or {@link JSDBTokenInvalid}.
+     *
+     * @param url the response being fetched from that URL
+     * @return a future completed with the fetched user.
+     * @since 1.0-0.3
+     */
+    CompletableFuture<T> fetchFromURLAsync(@NotNull final String url);
+
+    /**
+     * Asynchronous version of fetching a user by its {@code id}.
+     *
+     * @param id the id of the target user.
+     * @return a future completed with the fetched user.
+     * @see #fetchFromURLAsync(String)
+     * @since 1.0-0.3
+     */
+    CompletableFuture<T> fetchPlayerByIDAsync(@NotNull String id);
+
+    /**
+     * Asynchronous version of fetching a user by its {@code name}.
+     *
+     * @param platform the target platform to search for
+     * @param name     the name of the target user.
+     * @return a future completed with the fetched user.
+     * @see #fetchFromURLAsync(String)
+     * @since 1.0-0.3
+     */
+    CompletableFuture<T> fetchPlayerByNameAsync(@NotNull Platform platform,
+                                                @NotNull String name);
+
 }
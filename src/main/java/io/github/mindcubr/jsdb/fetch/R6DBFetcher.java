@@ -1,15 +1,19 @@
 package io.github.mindcubr.jsdb.fetch;
 
+import io.github.mindcubr.jsdb.deserialize.siege.LazySiegePlayer;
 import io.github.mindcubr.jsdb.deserialize.siege.SiegePlayer;
+import io.github.mindcubr.jsdb.deserialize.siege.SiegeProjection;
 import io.github.mindcubr.jsdb.deserialize.siege.SiegeStats;
 import io.github.mindcubr.jsdb.exception.JSDBPlatformNotSupported;
 import io.github.mindcubr.jsdb.exception.JSDBTokenInvalid;
 import io.github.mindcubr.jsdb.exception.JSDBUserDoesNotExist;
+import io.github.mindcubr.jsdb.fetch.cache.NameIndex;
 import io.github.mindcubr.jsdb.fetch.http.DBResponse;
 import com.google.gson.Gson;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import io.github.mindcubr.jsdb.Game;
 import io.github.mindcubr.jsdb.Globals;
 import io.github.mindcubr.jsdb.Platform;
@@ -18,8 +22,16 @@ import io.github.mindcubr.jsdb.exception.JSDBFetchingException;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.Validate;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.util.Objects;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Subclass specified version of a {@link DBFetcher} made for the game
@@ -35,32 +47,35 @@ import java.util.Objects;
  */
 public class R6DBFetcher extends DBFetcher<SiegePlayer> {
 
+    /**
+     * The stateless adapters reading partial players mapped by their
+     * projection, so they are not created per response. The map is bounded
+     * by the number of distinct projections.
+     */
+    @NotNull
+    private final ConcurrentMap<SiegeProjection, ProjectedAdapters> projectedAdapters =
+            new ConcurrentHashMap<>();
+
     private R6DBFetcher(@NotNull DBBridge bridge) {
         super(bridge, Game.SIEGE);
     }
 
     /**
      * Fetches a {@link SiegePlayer} from the given {@code response}.
+     * <p>The body is streamed and deserialized using
+     * {@link #readPlayer(Reader, String)}.
      *
      * @return a new {@link SiegePlayer} instance made up off the {@code response}.
      * @throws JSDBFetchingException - if the requesting or fetching goes wrong.
      */
     @Override
-    public synchronized SiegePlayer fetchPlayerFromResponse(@NotNull DBResponse response)
+    public SiegePlayer fetchPlayerFromResponse(@NotNull DBResponse response)
             throws JSDBTokenInvalid, JSDBUserDoesNotExist, JSDBFetchingException {
         Objects.requireNonNull(response);
         //The initial URL that caused the input response
         final String url = response.getCauser().getURL();
-        final Gson gson = new Gson();
-        final String content = response.getContent();
-        final JsonElement element = JsonParser.parseString(content);
-        final JsonObject object = element.getAsJsonObject();
         final int code = response.getCode();
 
-        //Validate that the servers are online and the URL correct
-        Validate.isTrue(object.has("code"),
-                "The target URL is offline or invalid.");
-
         //Throw an external exception if the user does not exist
         if (code == 404) {
             throw new JSDBUserDoesNotExist(url, filterUsernameFromURL(url));
@@ -72,19 +87,105 @@ public class R6DBFetcher extends DBFetcher<SiegePlayer> {
             throw new JSDBTokenInvalid(StringUtils.EMPTY);
         }
 
-        //Validating that there is a payload attached to it
-        Validate.isTrue(object.has("payload"),
-                code + ':' + object.get("message").getAsString());
+        return readPlayer(response.getReader(), url);
+    }
 
-        //Getting the information off that payload
-        try {
-            JsonObject payload = object.get("payload").getAsJsonObject();
-            SiegePlayer user = gson.fromJson(payload.get("user"), SiegePlayer.class);
-            user.setStats(gson.fromJson(payload.get("stats"), SiegeStats.class));
-            return user;
+    /**
+     * Reads a {@link SiegePlayer} from the input {@code body}, which
+     * streams the body of a successful response.
+     * <p>The body is deserialized in one pass, so neither the body content
+     * nor an intermediate JSON tree is held in memory.
+     *
+     * @return a new {@link SiegePlayer} instance made up off the body.
+     * @throws JSDBFetchingException - if the body cannot be deserialized.
+     * @since 1.0-0.3
+     */
+    @Override
+    protected SiegePlayer readPlayer(@NotNull Reader body, @NotNull String url)
+            throws JSDBFetchingException {
+        return readPlayer(body, url, SiegeProjection.ALL);
+    }
+
+    /**
+     * Reads a {@link SiegePlayer} from the input {@code body}, only
+     * deserializing the parts selected by the input {@code projection}.
+     * <p>Unselected parts are skipped by the streaming parser without
+     * being materialized, so the player is partially populated.
+     *
+     * @return a new {@link SiegePlayer} instance made up off the body.
+     * @throws JSDBFetchingException - if the body cannot be deserialized.
+     * @since 1.0-0.3
+     */
+    protected SiegePlayer readPlayer(@NotNull Reader body, @NotNull String url,
+                                     @NotNull SiegeProjection projection)
+            throws JSDBFetchingException {
+        Objects.requireNonNull(body);
+        Objects.requireNonNull(projection);
+        final Gson gson = getBridge().getGson();
+        //The shared adapters of the bridge read whole players
+        final ProjectedAdapters projected = projection.isAll() ? null
+                : projectedAdapters.computeIfAbsent(projection, ProjectedAdapters::new);
+        final TypeAdapter<SiegePlayer> userAdapter = projected == null
+                ? gson.getAdapter(SiegePlayer.class) : projected.player;
+        final TypeAdapter<SiegeStats> statsAdapter = projected == null
+                ? gson.getAdapter(SiegeStats.class) : projected.stats;
+        boolean hasCode = false;
+        String message = null;
+        SiegePlayer user = null;
+        SiegeStats stats = null;
+        try (JsonReader reader = new JsonReader(body)) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "code":
+                        hasCode = true;
+                        reader.skipValue();
+                        break;
+                    case "message":
+                        if (reader.peek() == JsonToken.NULL) {
+                            reader.nextNull();
+                        } else {
+                            message = reader.nextString();
+                        }
+                        break;
+                    case "payload":
+                        //Getting the information off that payload
+                        reader.beginObject();
+                        while (reader.hasNext()) {
+                            switch (reader.nextName()) {
+                                case "user":
+                                    user = userAdapter.read(reader);
+                                    break;
+                                case "stats":
+                                    if (projection.hasStats()) {
+                                        stats = statsAdapter.read(reader);
+                                    } else {
+                                        reader.skipValue();
+                                    }
+                                    break;
+                                default:
+                                    reader.skipValue();
+                            }
+                        }
+                        reader.endObject();
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            }
+            reader.endObject();
         } catch (Exception exc) {
             throw new JSDBFetchingException(exc, url);
         }
+
+        //Validate that the servers are online and the URL correct
+        Validate.isTrue(hasCode, "The target URL is offline or invalid.");
+
+        //Validating that there is a payload attached to it
+        Validate.isTrue(user != null, "The response contains no user: " + message);
+        if (stats != null)
+            user.setStats(stats);
+        return user;
     }
 
     /**
@@ -135,14 +236,18 @@ public class R6DBFetcher extends DBFetcher<SiegePlayer> {
      * @throws JSDBTokenInvalid if the given authorization failed.
      */
     @Override
-    public synchronized SiegePlayer fetchPlayerByID(@NotNull String id)
+    public SiegePlayer fetchPlayerByID(@NotNull String id)
             throws JSDBUserDoesNotExist, JSDBFetchingException, JSDBTokenInvalid {
+        Objects.requireNonNull(id);
         //Fetch the response of the request
-        return fetchFromURL(String.format(Globals.URL_FETCH_ID, id));
+        return index(null, fetchExisting(idKey(id), id,
+                String.format(Globals.URL_FETCH_ID, id)));
     }
 
     /**
      * Fetches an {@link SiegePlayer} with the input {@code name}, if existing.
+     * <p>If the name or a former name of the player is known from an
+     * earlier fetch, the player is fetched by its ID instead.
      *
      * @param platform the target platform to search for
      * @param name     the name of the target user.
@@ -155,16 +260,313 @@ public class R6DBFetcher extends DBFetcher<SiegePlayer> {
      * @throws JSDBTokenInvalid if the given authorization failed.
      */
     @Override
-    public synchronized SiegePlayer fetchPlayerByName(@NotNull Platform platform, final @NotNull String name)
+    public SiegePlayer fetchPlayerByName(@NotNull Platform platform, final @NotNull String name)
             throws JSDBUserDoesNotExist, JSDBFetchingException, JSDBPlatformNotSupported, JSDBTokenInvalid {
         Objects.requireNonNull(platform);
         Objects.requireNonNull(name);
         Validate.notBlank(name);
         checkPlatform(platform);
 
-        //Fetch the response of the request
-        return fetchFromURL(String.format(Globals.URL_FETCH_USER,
-                platform.toShort(), name));
+        //Fetch known names and former names by their ID instead
+        return fetchByIndexedName(platform, name, this::fetchPlayerByID,
+                () -> index(platform, fetchExisting(nameKey(platform, name), name,
+                        String.format(Globals.URL_FETCH_USER, platform.toShort(), name))));
+    }
+
+    /**
+     * Fetches a partially populated {@link SiegePlayer} with the input
+     * {@code id}, only deserializing the parts selected by the input
+     * {@code projection}, e.g. only the progression and the seasonal
+     * ranked statistics of leaderboard entries.
+     * <p>Partial players are neither cached nor indexed by their name,
+     * unless the {@code projection} selects the whole player.
+     *
+     * @param id         the id of the target user.
+     * @param projection the parts of the player to deserialize.
+     * @return a possible new, partially populated instance of the {@code id}.
+     * @throws JSDBFetchingException if the general fetching and data
+     * collecting or deserialization went wrong.
+     * @throws JSDBUserDoesNotExist if the target user does not exist.
+     * @throws JSDBTokenInvalid if the given authorization failed.
+     * @since 1.0-0.3
+     */
+    public SiegePlayer fetchPlayerByID(@NotNull String id, @NotNull SiegeProjection projection)
+            throws JSDBUserDoesNotExist, JSDBFetchingException, JSDBTokenInvalid {
+        Objects.requireNonNull(id);
+        Objects.requireNonNull(projection);
+        if (projection.isAll())
+            return fetchPlayerByID(id);
+        final String url = String.format(Globals.URL_FETCH_ID, id);
+        return executeExisting(idKey(id), id, url, response -> {
+            checkResponse(response, id);
+            return readPlayer(response.getReader(), url, projection);
+        });
+    }
+
+    /**
+     * Fetches a partially populated {@link SiegePlayer} with the input
+     * {@code name}, only deserializing the parts selected by the input
+     * {@code projection}.
+     * <p>If the name or a former name of the player is known from an
+     * earlier fetch, the player is fetched by its ID instead. Partial
+     * players are neither cached nor indexed by their name, unless the
+     * {@code projection} selects the whole player.
+     *
+     * @param platform   the target platform to search for
+     * @param name       the name of the target user.
+     * @param projection the parts of the player to deserialize.
+     * @return a possible new, partially populated instance of the {@code name}.
+     * @throws JSDBFetchingException if the general fetching and data
+     * collecting or deserialization went wrong.
+     * @throws JSDBUserDoesNotExist if the target user does not exist.
+     * @throws JSDBPlatformNotSupported if the target {@code platform} is not
+     * compatible with this game.
+     * @throws JSDBTokenInvalid if the given authorization failed.
+     * @since 1.0-0.3
+     */
+    public SiegePlayer fetchPlayerByName(@NotNull Platform platform, @NotNull String name,
+                                         @NotNull SiegeProjection projection)
+            throws JSDBUserDoesNotExist, JSDBFetchingException, JSDBPlatformNotSupported, JSDBTokenInvalid {
+        Objects.requireNonNull(projection);
+        if (projection.isAll())
+            return fetchPlayerByName(platform, name);
+        Objects.requireNonNull(platform);
+        Objects.requireNonNull(name);
+        Validate.notBlank(name);
+        checkPlatform(platform);
+
+        final String url = String.format(Globals.URL_FETCH_USER, platform.toShort(), name);
+        return fetchByIndexedName(platform, name, id -> fetchPlayerByID(id, projection),
+                () -> executeExisting(nameKey(platform, name), name, url, response -> {
+                    checkResponse(response, name);
+                    return readPlayer(response.getReader(), url, projection);
+                }));
+    }
+
+    /**
+     * Fetches a {@link LazySiegePlayer} with the input {@code id}, that
+     * keeps the raw response and deserializes each part of the player
+     * only when it is accessed, e.g. if only the level is of interest.
+     * <p>Lazy players are neither cached nor indexed by their name.
+     *
+     * @param id the id of the target user.
+     * @return a new lazy player of the {@code id}.
+     * @throws JSDBFetchingException if the general fetching and data
+     * collecting or the structure of the response is invalid.
+     * @throws JSDBUserDoesNotExist if the target user does not exist.
+     * @throws JSDBTokenInvalid if the given authorization failed.
+     * @since 1.0-0.3
+     */
+    public LazySiegePlayer fetchLazyPlayerByID(@NotNull String id)
+            throws JSDBUserDoesNotExist, JSDBFetchingException, JSDBTokenInvalid {
+        Objects.requireNonNull(id);
+        return executeExisting(idKey(id), id, String.format(Globals.URL_FETCH_ID, id),
+                response -> readLazyPlayer(response, id));
+    }
+
+    /**
+     * Fetches a {@link LazySiegePlayer} with the input {@code name}, that
+     * keeps the raw response and deserializes each part of the player
+     * only when it is accessed.
+     * <p>If the name or a former name of the player is known from an
+     * earlier fetch, the player is fetched by its ID instead. Lazy players
+     * are neither cached nor indexed by their name.
+     *
+     * @param platform the target platform to search for
+     * @param name     the name of the target user.
+     * @return a new lazy player of the {@code name}.
+     * @throws JSDBFetchingException if the general fetching and data
+     * collecting or the structure of the response is invalid.
+     * @throws JSDBUserDoesNotExist if the target user does not exist.
+     * @throws JSDBPlatformNotSupported if the target {@code platform} is not
+     * compatible with this game.
+     * @throws JSDBTokenInvalid if the given authorization failed.
+     * @since 1.0-0.3
+     */
+    public LazySiegePlayer fetchLazyPlayerByName(@NotNull Platform platform, @NotNull String name)
+            throws JSDBUserDoesNotExist, JSDBFetchingException, JSDBPlatformNotSupported, JSDBTokenInvalid {
+        Objects.requireNonNull(platform);
+        Objects.requireNonNull(name);
+        Validate.notBlank(name);
+        checkPlatform(platform);
+
+        return fetchByIndexedName(platform, name, this::fetchLazyPlayerByID,
+                () -> executeExisting(nameKey(platform, name), name,
+                        String.format(Globals.URL_FETCH_USER, platform.toShort(), name),
+                        response -> readLazyPlayer(response, name)));
+    }
+
+    /**
+     * Reads a {@link LazySiegePlayer} from the input {@code response},
+     * only scanning the structure of its body.
+     *
+     * @param response the final response of the player
+     * @param username the name or ID of the player used in exceptions
+     * @return a new lazy player.
+     * @throws IOException - if the body cannot be read.
+     * @throws JSDBFetchingException - if the body is malformed.
+     */
+    private LazySiegePlayer readLazyPlayer(@NotNull DBResponse response, String username)
+            throws IOException, JSDBFetchingException {
+        checkResponse(response, username);
+        try {
+            return LazySiegePlayer.of(response.getBytes());
+        } catch (JsonParseException exc) {
+            throw new JSDBFetchingException(exc, response.getCauser().getURL());
+        }
+    }
+
+    /**
+     * Throws the matching exception if the input {@code response} is
+     * not successful because of a missing user or an invalid token.
+     *
+     * @param response the final response of the player
+     * @param username the name or ID of the player used in exceptions
+     * @throws JSDBUserDoesNotExist - if the user does not exist.
+     * @throws JSDBTokenInvalid - if the given authorization failed.
+     */
+    private static void checkResponse(@NotNull DBResponse response, String username)
+            throws JSDBUserDoesNotExist, JSDBTokenInvalid {
+        final int code = response.getCode();
+        if (code == 404)
+            throw new JSDBUserDoesNotExist(response.getCauser().getURL(), username);
+        if (code == 401)
+            throw new JSDBTokenInvalid(StringUtils.EMPTY);
+    }
+
+    /**
+     * Fetches an {@link SiegePlayer} with the input {@code id} without
+     * blocking the calling thread.
+     *
+     * @param id the id of the target user.
+     * @return a future completed with the player, or exceptionally
+     * with the exceptions {@link #fetchPlayerByID(String)} throws.
+     * @since 1.0-0.3
+     */
+    @Override
+    public CompletableFuture<SiegePlayer> fetchPlayerByIDAsync(@NotNull String id) {
+        Objects.requireNonNull(id);
+        return fetchExistingAsync(idKey(id), id, String.format(Globals.URL_FETCH_ID, id))
+                .thenApply(player -> index(null, player));
+    }
+
+    /**
+     * Fetches an {@link SiegePlayer} with the input {@code name} without
+     * blocking the calling thread.
+     * <p>Invalid arguments are reported immediately, while exceptions of
+     * the fetching itself complete the returned future exceptionally.
+     *
+     * @param platform the target platform to search for
+     * @param name     the name of the target user.
+     * @return a future completed with the player, or exceptionally
+     * with the exceptions {@link #fetchPlayerByName(Platform, String)} throws.
+     * @throws JSDBPlatformNotSupported if the target {@code platform} is not
+     * compatible with this game.
+     * @since 1.0-0.3
+     */
+    @Override
+    public CompletableFuture<SiegePlayer> fetchPlayerByNameAsync(@NotNull Platform platform,
+                                                                 @NotNull String name) {
+        Objects.requireNonNull(platform);
+        Objects.requireNonNull(name);
+        Validate.notBlank(name);
+        checkPlatform(platform);
+
+        //Fetch known names and former names by their ID instead
+        final String id = resolveIndexedId(platform, name);
+        if (id == null)
+            return fetchByNameAsync(platform, name);
+        return fetchPlayerByIDAsync(id).handle((player, exc) -> {
+            if (exc == null)
+                return CompletableFuture.completedFuture(player);
+            Throwable cause = exc instanceof CompletionException && exc.getCause() != null
+                    ? exc.getCause() : exc;
+            if (!(cause instanceof JSDBUserDoesNotExist)) {
+                CompletableFuture<SiegePlayer> failed = new CompletableFuture<>();
+                failed.completeExceptionally(cause);
+                return failed;
+            }
+            getNameIndex().invalidate(platform, name);
+            return fetchByNameAsync(platform, name);
+        }).thenCompose(Function.identity());
+    }
+
+    /**
+     * Fetches an {@link SiegePlayer} with the input {@code name} by searching
+     * its name, without blocking the calling thread.
+     */
+    private CompletableFuture<SiegePlayer> fetchByNameAsync(@NotNull Platform platform,
+                                                            @NotNull String name) {
+        return fetchExistingAsync(nameKey(platform, name), name,
+                String.format(Globals.URL_FETCH_USER, platform.toShort(), name))
+                .thenApply(player -> index(platform, player));
+    }
+
+    /**
+     * Returns the ID the input {@code name} or a former name of a player
+     * on the {@code platform} is known to belong to, or null if unknown or
+     * names are not indexed.
+     *
+     * @param platform the platform to search for
+     * @param name     the name of the player
+     */
+    @Nullable
+    private String resolveIndexedId(@NotNull Platform platform, @NotNull String name) {
+        final NameIndex index = getNameIndex();
+        return index != null ? index.resolve(platform, name) : null;
+    }
+
+    /**
+     * Fetches a player with the input {@code name} using {@code byID}, if
+     * the ID of the name is known from an earlier fetch. Otherwise, or if
+     * that ID does not exist anymore, the player is fetched using
+     * {@code byName}.
+     *
+     * @param platform the platform to search for
+     * @param name     the name of the player
+     * @param byID     the function fetching the player by its ID
+     * @param byName   the function fetching the player by its name
+     * @return the fetched player.
+     * @throws JSDBFetchingException - if the player cannot be fetched.
+     */
+    private <R> R fetchByIndexedName(@NotNull Platform platform, @NotNull String name,
+                                     @NotNull IDFetch<R> byID, @NotNull NameFetch<R> byName)
+            throws JSDBFetchingException {
+        final String id = resolveIndexedId(platform, name);
+        if (id != null) {
+            try {
+                return byID.fetch(id);
+            } catch (JSDBUserDoesNotExist exc) {
+                getNameIndex().invalidate(platform, name);
+            }
+        }
+        return byName.fetch();
+    }
+
+    /**
+     * Indexes the names of the input {@code player} and caches it for the
+     * URL of its ID, if it was fetched by its name on the {@code platform}.
+     * <p>Players fetched by their ID are only indexed if their platform is
+     * known from an earlier lookup by name.
+     *
+     * @param platform the platform the player was searched on, or null if
+     *                 the player was fetched by its ID
+     * @param player   the fetched player
+     * @return the input {@code player}.
+     */
+    private SiegePlayer index(@Nullable Platform platform, @NotNull SiegePlayer player) {
+        final String id = player.getID();
+        if (id == null)
+            return player;
+        if (platform != null)
+            cacheAs(String.format(Globals.URL_FETCH_ID, id), player);
+        final NameIndex index = getNameIndex();
+        if (index == null)
+            return player;
+        if (platform == null && (platform = index.getPlatform(id)) == null)
+            return player;
+        index.put(platform, id, player.hasName() ? player.getName() : null, player.getAliases());
+        return player;
     }
 
     /**
@@ -181,4 +583,42 @@ public class R6DBFetcher extends DBFetcher<SiegePlayer> {
         return new R6DBFetcher(bridge);
     }
 
+    /**
+     * The adapters reading the parts of a player selected by a projection.
+     */
+    private static final class ProjectedAdapters {
+
+        @NotNull
+        private final SiegePlayer.Adapter player;
+
+        @NotNull
+        private final SiegeStats.Adapter stats;
+
+        private ProjectedAdapters(@NotNull SiegeProjection projection) {
+            this.player = new SiegePlayer.Adapter(projection);
+            this.stats = new SiegeStats.Adapter(projection);
+        }
+
+    }
+
+    /**
+     * A fetch of a player by its ID.
+     */
+    @FunctionalInterface
+    private interface IDFetch<R> {
+
+        R fetch(@NotNull String id) throws JSDBFetchingException;
+
+    }
+
+    /**
+     * A fetch of a player by its name.
+     */
+    @FunctionalInterface
+    private interface NameFetch<R> {
+
+        R fetch() throws JSDBFetchingException;
+
+    }
+
 }
@@ -0,0 +1,32 @@
+package io.github.mindcubr.jsdb.fetch;
+
+import io.github.mindcubr.jsdb.exception.JSDBFetchingException;
+import io.github.mindcubr.jsdb.fetch.http.DBResponse;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+/**
+ * Function reading the result of a fetch from a final {@link DBResponse},
+ * so that is a response which is not retried.
+ *
+ * @param <R> the type of result
+ * @author mindcubr
+ * @see DBFetcher#execute(String, ResponseReader)
+ * @since 1.0-0.3
+ */
+@FunctionalInterface
+public interface ResponseReader<R> {
+
+    /**
+     * Reads the result from the input {@code response}.
+     *
+     * @param response the response to read, which is closed afterwards
+     * @return the result read.
+     * @throws IOException - if the body cannot be read, so the request
+     * is retried if possible.
+     * @throws JSDBFetchingException - if the result cannot be read.
+     */
+    R read(@NotNull DBResponse response) throws IOException, JSDBFetchingException;
+
+}
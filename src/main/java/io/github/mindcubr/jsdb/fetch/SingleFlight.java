@@ -0,0 +1,80 @@
+package io.github.mindcubr.jsdb.fetch;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+
+/**
+ * Coalesces concurrent and identical calls, so that only one call per
+ * key is in flight at the same time and every concurrent caller of the
+ * same key receives the result of that one call.
+ * <p>Once a call is completed its key is released, so the next call of
+ * the same key is executed again. Results are therefore not cached.
+ *
+ * @param <K> the type of key identifying identical calls
+ * @param <V> the type of result of a call
+ * @author mindcubr
+ * @since 1.0-0.3
+ */
+public final class SingleFlight<K, V> {
+
+    /**
+     * The calls in flight mapped by their key.
+     */
+    private final ConcurrentMap<K, CompletableFuture<V>> flights = new ConcurrentHashMap<>();
+
+    /**
+     * Executes the input {@code loader} on the {@code executor}, unless a
+     * call with the same {@code key} is already in flight, in which case
+     * the result of that call is returned instead.
+     * <p>Every caller receives its own dependent future, so cancelling it
+     * does not affect the other callers. If the executor runs the loader
+     * on the calling thread, the returned future is already completed.
+     *
+     * @param key      the key identifying identical calls
+     * @param executor the executor running the loader
+     * @param loader   the call producing the result
+     * @return a future completed with the result of the call, or
+     * exceptionally with the exception thrown by the {@code loader}.
+     */
+    public CompletableFuture<V> execute(@NotNull K key, @NotNull Executor executor,
+                                        @NotNull Callable<V> loader) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(executor);
+        Objects.requireNonNull(loader);
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = flights.putIfAbsent(key, flight);
+        if (existing != null)
+            return existing.thenApply(Function.identity());
+
+        //Release the key as soon as the call is completed
+        flight.whenComplete((value, failure) -> flights.remove(key, flight));
+        try {
+            executor.execute(() -> {
+                try {
+                    flight.complete(loader.call());
+                } catch (Throwable exc) {
+                    flight.completeExceptionally(exc);
+                }
+            });
+        } catch (RejectedExecutionException exc) {
+            flight.completeExceptionally(exc);
+        }
+        return flight.thenApply(Function.identity());
+    }
+
+    /**
+     * Returns the number of calls currently in flight.
+     */
+    public int size() {
+        return flights.size();
+    }
+
+}
@@ -0,0 +1,115 @@
+package io.github.mindcubr.jsdb.fetch.cache;
+
+import org.apache.commons.lang3.Validate;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Compact and thread-safe probabilistic set of strings, that answers
+ * whether a string might have been added, without storing the strings.
+ * <p>A filter never answers false for an added string, but it may answer
+ * true for a string that was never added, with a probability close to the
+ * false positive rate it was created with, as long as no more strings
+ * than expected are added.
+ *
+ * @author mindcubr
+ * @since 1.0-0.3
+ */
+public final class BloomFilter {
+
+    @NotNull
+    private final AtomicLongArray bits;
+
+    /**
+     * The number of bits of this filter.
+     */
+    private final long size;
+
+    /**
+     * The number of bits set per string.
+     */
+    private final int hashes;
+
+    private BloomFilter(long size, int hashes) {
+        this.bits = new AtomicLongArray((int) ((size + 63) >>> 6));
+        this.size = size;
+        this.hashes = hashes;
+    }
+
+    /**
+     * Adds the input {@code value} to this filter.
+     *
+     * @param value the string to add
+     */
+    public void put(@NotNull String value) {
+        long hash = hash(Objects.requireNonNull(value));
+        long h1 = hash, h2 = (hash >>> 32) | 1;
+        for (int i = 0; i < hashes; i++) {
+            long index = ((h1 + i * h2) & Long.MAX_VALUE) % size;
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current;
+            while (((current = bits.get(word)) & mask) == 0
+                    && !bits.compareAndSet(word, current, current | mask)) {
+                //Retry until this or another thread has set the bit
+            }
+        }
+    }
+
+    /**
+     * Returns whether the input {@code value} might have been added to
+     * this filter. False is only returned if it was never added.
+     *
+     * @param value the string to test
+     */
+    public boolean mightContain(@NotNull String value) {
+        long hash = hash(Objects.requireNonNull(value));
+        long h1 = hash, h2 = (hash >>> 32) | 1;
+        for (int i = 0; i < hashes; i++) {
+            long index = ((h1 + i * h2) & Long.MAX_VALUE) % size;
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0)
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the 64 bit FNV-1a hash of the characters of the input
+     * {@code value}, mixed so that all bits depend on the whole string.
+     */
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0, length = value.length(); i < length; i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    /**
+     * Creates a new and empty {@link BloomFilter} sized for the input
+     * number of {@code expectedInsertions}.
+     *
+     * @param expectedInsertions the number of strings expected to be added
+     * @param falsePositiveRate  the accepted rate of false positives,
+     *                           between zero and one exclusively
+     * @return a new {@link BloomFilter} instance.
+     * @throws IllegalArgumentException - if an input is out of range.
+     */
+    public static BloomFilter create(int expectedInsertions, double falsePositiveRate) {
+        Validate.isTrue(expectedInsertions > 0, "The expected insertions must be positive.");
+        Validate.isTrue(falsePositiveRate > 0 && falsePositiveRate < 1,
+                "The false positive rate must be between zero and one.");
+        double ln2 = Math.log(2);
+        long size = Math.max(64, (long) Math.ceil(
+                -expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2)));
+        int hashes = Math.max(1, (int) Math.round((double) size / expectedInsertions * ln2));
+        return new BloomFilter(size, hashes);
+    }
+
+}
@@ -0,0 +1,136 @@
+package io.github.mindcubr.jsdb.fetch.cache;
+
+import io.github.mindcubr.jsdb.fetch.http.DBResponse;
+import okhttp3.Request;
+import org.apache.commons.lang3.StringUtils;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+
+/**
+ * A deserialized value cached together with the validators of the
+ * response it was deserialized from, so the value can be revalidated
+ * using a conditional request once it is expired.
+ * <p>If the server answers such a conditional request with
+ * <em>304: Not Modified</em>, the value can be kept without downloading
+ * and deserializing the whole response again.
+ *
+ * @param <V> the type of cached value
+ * @author mindcubr
+ * @since 1.0-0.3
+ */
+public final class CachedResponse<V> {
+
+    @NotNull
+    private final V value;
+
+    /**
+     * The <em>ETag</em> header of the response, or null.
+     */
+    @Nullable
+    private final String eTag;
+
+    /**
+     * The <em>Last-Modified</em> header of the response, or null.
+     */
+    @Nullable
+    private final String lastModified;
+
+    /**
+     * The request that caused the response, used as template of
+     * conditional requests, or null if the value was not requested.
+     */
+    @Nullable
+    private final Request request;
+
+    private CachedResponse(@NotNull V value, @Nullable String eTag,
+                           @Nullable String lastModified, @Nullable Request request) {
+        this.value = value;
+        this.eTag = eTag;
+        this.lastModified = lastModified;
+        this.request = request;
+    }
+
+    /**
+     * Returns the cached value.
+     */
+    @NotNull
+    public V getValue() {
+        return value;
+    }
+
+    /**
+     * Returns the <em>ETag</em> of the cached response, or null.
+     */
+    @Nullable
+    public String getETag() {
+        return eTag;
+    }
+
+    /**
+     * Returns the <em>Last-Modified</em> date of the cached response, or null.
+     */
+    @Nullable
+    public String getLastModified() {
+        return lastModified;
+    }
+
+    /**
+     * Returns whether the response contained any validator, so that
+     * a conditional request can be sent.
+     */
+    public boolean isRevalidatable() {
+        return request != null && (eTag != null || lastModified != null);
+    }
+
+    /**
+     * Creates the conditional request revalidating this cached value,
+     * containing the same headers as the original request.
+     *
+     * @return a new conditional request.
+     * @throws IllegalStateException - if this is not {@link #isRevalidatable()}.
+     */
+    @NotNull
+    public Request toConditionalRequest() {
+        if (!isRevalidatable())
+            throw new IllegalStateException("The response has no validators.");
+        Request.Builder builder = request.newBuilder();
+        if (eTag != null)
+            builder.header("If-None-Match", eTag);
+        if (lastModified != null)
+            builder.header("If-Modified-Since", lastModified);
+        return builder.build();
+    }
+
+    /**
+     * Creates a new {@link CachedResponse} of the input {@code value}
+     * that was not requested, e.g. because it was read from a
+     * {@link DiskCache}, so it cannot be revalidated.
+     *
+     * @param value the deserialized value
+     * @return a new {@link CachedResponse} instance.
+     */
+    public static <V> CachedResponse<V> of(@NotNull V value) {
+        Objects.requireNonNull(value);
+        return new CachedResponse<>(value, null, null, null);
+    }
+
+    /**
+     * Creates a new {@link CachedResponse} of the input {@code value}
+     * deserialized from the {@code response}.
+     *
+     * @param value    the deserialized value
+     * @param response the response the value was deserialized from
+     * @return a new {@link CachedResponse} instance.
+     */
+    public static <V> CachedResponse<V> of(@NotNull V value, @NotNull DBResponse response) {
+        Objects.requireNonNull(value);
+        Objects.requireNonNull(response);
+        return new CachedResponse<>(value,
+                StringUtils.defaultIfBlank(response.getETag(), null),
+                StringUtils.defaultIfBlank(response.getLastModified(), null),
+                response.getResponse().request());
+    }
+
+}
@@ -0,0 +1,586 @@
+package io.github.mindcubr.jsdb.fetch.cache;
+
+import org.apache.commons.lang3.Validate;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.CRC32;
+
+/**
+ * Persistent cache of raw response payloads, stored in memory-mapped
+ * segment files within one directory, so a restarted application can
+ * serve cached payloads immediately instead of fetching them again.
+ * <p>Payloads are appended as records to the current segment file. Every
+ * record contains its key, the times it was stored at and expires at and
+ * a checksum, so records that were torn by a crash are detected and
+ * ignored when the cache is opened again. Invalidated payloads are marked
+ * by an already expired record without payload, a tombstone, so they are
+ * not restored when the cache is opened again. Records replaced,
+ * invalidated or expired are removed from the files by
+ * {@link #compact() compacting} the cache, which happens automatically
+ * once most of the stored bytes are dead.
+ * <p>Each record is laid out as follows:
+ * <pre><code>
+ *     int   magic
+ *     int   record length
+ *     long  storage time in unix milliseconds
+ *     long  expiry in unix milliseconds
+ *     short key length, followed by the UTF-8 key
+ *     int   payload length, followed by the payload
+ *     int   CRC32 of everything between the record length and the payload
+ * </code></pre>
+ *
+ * @author mindcubr
+ * @since 1.0-0.3
+ */
+public class DiskCache implements Closeable {
+
+    /**
+     * The magic number that starts every record ("JSD2").
+     */
+    private static final int MAGIC = 0x4A534432;
+
+    /**
+     * The bytes of a record that are independent from key and payload.
+     */
+    private static final int RECORD_OVERHEAD = 4 + 4 + 8 + 8 + 2 + 4 + 4;
+
+    private static final byte[] NO_PAYLOAD = new byte[0];
+
+    private static final String SEGMENT_PREFIX = "segment-";
+
+    private static final String SEGMENT_SUFFIX = ".jsdb";
+
+    @NotNull
+    private final File directory;
+
+    private final int segmentSize;
+
+    /**
+     * The locations of the live records mapped by their key.
+     */
+    private final Map<String, Location> index = new ConcurrentHashMap<>();
+
+    /**
+     * Lock that is held exclusively whenever records are written,
+     * so readers never observe a segment being compacted.
+     */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * The segments in order of their creation, the last being active.
+     */
+    private final List<Segment> segments = new ArrayList<>();
+
+    /**
+     * The bytes of all records, including dead records.
+     */
+    private long totalBytes;
+
+    /**
+     * The bytes of all live records.
+     */
+    private long liveBytes;
+
+    private int nextSegmentId;
+
+    private boolean closed;
+
+    protected DiskCache(@NotNull File directory, int segmentSize) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * Returns the payload stored for the input {@code key}, or null if no
+     * payload is stored or the stored payload is expired.
+     *
+     * @param key the key of the payload, e.g. an URL
+     * @return a copy of the stored payload, or null.
+     */
+    @Nullable
+    public byte[] get(@NotNull String key) {
+        return get(key, Long.MAX_VALUE);
+    }
+
+    /**
+     * Returns the payload stored for the input {@code key}, or null if no
+     * payload is stored, the stored payload is expired or it was stored
+     * more than {@code maxAge} milliseconds ago.
+     *
+     * @param key    the key of the payload, e.g. an URL
+     * @param maxAge the maximum milliseconds since the payload was stored
+     * @return a copy of the stored payload, or null.
+     */
+    @Nullable
+    public byte[] get(@NotNull String key, long maxAge) {
+        Objects.requireNonNull(key);
+        lock.readLock().lock();
+        try {
+            Location location = index.get(key);
+            if (location == null)
+                return null;
+            long now = System.currentTimeMillis();
+            if (location.expiresAt <= now || now - location.storedAt > maxAge)
+                return null;
+            byte[] payload = new byte[location.payloadLength];
+            ByteBuffer view = location.segment.buffer.duplicate();
+            view.position(location.payloadOffset);
+            view.get(payload);
+            return payload;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Stores the input {@code payload} for the {@code key}, replacing
+     * any previously stored payload.
+     * <p>Payloads bigger than one segment are not stored.
+     *
+     * @param key        the key of the payload, e.g. an URL
+     * @param payload    the payload to store
+     * @param timeToLive the milliseconds the payload is valid
+     * @return whether the payload was stored, which is false if this
+     * cache is closed.
+     * @throws IOException - if a new segment file cannot be created.
+     */
+    public boolean put(@NotNull String key, @NotNull byte[] payload, long timeToLive)
+            throws IOException {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(payload);
+        byte[] keyBytes = toKeyBytes(key);
+        if (RECORD_OVERHEAD + keyBytes.length + payload.length > segmentSize)
+            return false;
+
+        lock.writeLock().lock();
+        try {
+            if (closed)
+                return false;
+            long now = System.currentTimeMillis();
+            track(key, appendLocked(keyBytes, payload, now, now + timeToLive));
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Stores the payload stored for the input {@code key} again, so it
+     * counts as just stored and its time to live starts again.
+     *
+     * @param key        the key of the payload, e.g. an URL
+     * @param timeToLive the milliseconds the payload is valid
+     * @return whether a payload was stored and renewed.
+     * @throws IOException - if a new segment file cannot be created.
+     */
+    public boolean renew(@NotNull String key, long timeToLive) throws IOException {
+        Objects.requireNonNull(key);
+        byte[] payload = get(key);
+        return payload != null && put(key, payload, timeToLive);
+    }
+
+    /**
+     * Removes the payload stored for the input {@code key}, if any.
+     * <p>A tombstone is appended for the payload, so it is not restored
+     * when the cache is opened again. The record stays in its segment
+     * file until the cache is compacted.
+     *
+     * @param key the key of the payload
+     * @throws IOException - if a new segment file for the tombstone cannot
+     * be created. The payload is removed from this cache regardless.
+     */
+    public void invalidate(@NotNull String key) throws IOException {
+        Objects.requireNonNull(key);
+        byte[] keyBytes = toKeyBytes(key);
+        lock.writeLock().lock();
+        try {
+            Location removed = index.remove(key);
+            if (removed == null || closed)
+                return;
+            liveBytes -= removed.length;
+            //The tombstone is expired already, so it only counts as dead bytes
+            totalBytes += appendLocked(keyBytes, NO_PAYLOAD, 0, 0).length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Rewrites all live and unexpired records into new segment files and
+     * deletes the old segment files, freeing the space of dead records.
+     *
+     * @throws IOException - if a new segment file cannot be created.
+     */
+    public void compact() throws IOException {
+        lock.writeLock().lock();
+        try {
+            compactLocked();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of payloads stored, including expired payloads.
+     */
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * Returns the directory the segment files are stored in.
+     */
+    @NotNull
+    public File getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Forces all written records onto the storage device.
+     */
+    public void flush() {
+        lock.writeLock().lock();
+        try {
+            for (Segment segment : segments) {
+                segment.buffer.force();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Flushes and closes this cache. Afterwards no payloads are returned
+     * or stored, while the segment files stay on the storage device.
+     */
+    @Override
+    public void close() {
+        lock.writeLock().lock();
+        try {
+            for (Segment segment : segments) {
+                segment.buffer.force();
+            }
+            closed = true;
+            segments.clear();
+            index.clear();
+            totalBytes = liveBytes = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Appends a record to the active segment, compacting the cache or
+     * creating a new segment if the active segment is full.
+     */
+    private Location appendLocked(byte[] keyBytes, byte[] payload,
+                                  long storedAt, long expiresAt) throws IOException {
+        int length = RECORD_OVERHEAD + keyBytes.length + payload.length;
+        Segment segment = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+        if (segment == null || segment.remaining() < length) {
+            //Compact instead of growing if most bytes are dead
+            if (segment != null && liveBytes * 2 < totalBytes)
+                compactLocked();
+            segment = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+            if (segment == null || segment.remaining() < length) {
+                segment = createSegment();
+                segments.add(segment);
+            }
+        }
+        return segment.append(keyBytes, payload, storedAt, expiresAt);
+    }
+
+    /**
+     * Rewrites the live records into new segments, which replace the old
+     * segments only once all records are written, so a failure leaves
+     * this cache unchanged.
+     */
+    private void compactLocked() throws IOException {
+        List<Segment> created = new ArrayList<>();
+        Map<String, Location> live = new HashMap<>();
+        long bytes = 0;
+        long now = System.currentTimeMillis();
+        try {
+            Segment target = null;
+            for (Map.Entry<String, Location> entry : index.entrySet()) {
+                Location location = entry.getValue();
+                if (location.expiresAt <= now)
+                    continue;
+                byte[] payload = new byte[location.payloadLength];
+                ByteBuffer view = location.segment.buffer.duplicate();
+                view.position(location.payloadOffset);
+                view.get(payload);
+
+                if (target == null || target.remaining() < location.length) {
+                    target = createSegment();
+                    created.add(target);
+                }
+                live.put(entry.getKey(), target.append(toKeyBytes(entry.getKey()),
+                        payload, location.storedAt, location.expiresAt));
+                bytes += location.length;
+            }
+        } catch (IOException | RuntimeException exc) {
+            for (Segment segment : created) {
+                delete(segment);
+            }
+            throw exc;
+        }
+
+        //Swap the segments, then delete the old segment files
+        List<Segment> old = new ArrayList<>(segments);
+        segments.clear();
+        segments.addAll(created);
+        index.clear();
+        index.putAll(live);
+        totalBytes = liveBytes = bytes;
+        for (Segment segment : old) {
+            delete(segment);
+        }
+    }
+
+    private void track(String key, Location location) {
+        Location previous = index.put(key, location);
+        if (previous != null)
+            liveBytes -= previous.length;
+        liveBytes += location.length;
+        totalBytes += location.length;
+    }
+
+    /**
+     * Creates a new segment file, without adding it to the segments.
+     */
+    private Segment createSegment() throws IOException {
+        File file = new File(directory, String.format("%s%08d%s",
+                SEGMENT_PREFIX, nextSegmentId++, SEGMENT_SUFFIX));
+        return Segment.map(file, segmentSize);
+    }
+
+    private static void delete(Segment segment) {
+        segment.buffer.force();
+        if (!segment.file.delete())
+            segment.file.deleteOnExit();
+    }
+
+    private static byte[] toKeyBytes(String key) {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        Validate.isTrue(keyBytes.length <= Short.MAX_VALUE, "The key is too long.");
+        return keyBytes;
+    }
+
+    /**
+     * Opens the existing segment files and rebuilds the index, ignoring
+     * records that are incomplete or corrupted.
+     */
+    private void load() throws IOException {
+        File[] files = directory.listFiles((dir, name) ->
+                name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX));
+        if (files == null)
+            throw new IOException("The directory '" + directory + "' cannot be read.");
+        Arrays.sort(files);
+        long now = System.currentTimeMillis();
+        for (File file : files) {
+            String name = file.getName();
+            try {
+                nextSegmentId = Math.max(nextSegmentId, 1 + Integer.parseInt(
+                        name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())));
+            } catch (NumberFormatException exc) {
+                continue;
+            }
+            Segment segment = Segment.map(file, (int) Math.max(file.length(), segmentSize));
+            segments.add(segment);
+            Location location;
+            while ((location = segment.next()) != null) {
+                if (location.expiresAt > now) {
+                    track(location.key, location);
+                } else {
+                    //Expired records and tombstones only count as dead bytes
+                    Location previous = index.remove(location.key);
+                    if (previous != null)
+                        liveBytes -= previous.length;
+                    totalBytes += location.length;
+                }
+            }
+        }
+    }
+
+    /**
+     * Opens or creates a {@link DiskCache} within the input {@code directory}.
+     *
+     * @param directory   the directory of the segment files
+     * @param segmentSize the size of one segment file in bytes
+     * @return a new {@link DiskCache} containing the records of existing
+     * segment files.
+     * @throws IOException - if the directory or segment files cannot be
+     * created or read.
+     */
+    public static DiskCache open(@NotNull File directory, int segmentSize) throws IOException {
+        Objects.requireNonNull(directory);
+        Validate.isTrue(segmentSize > RECORD_OVERHEAD, "The segment size is too small.");
+        if (!directory.isDirectory() && !directory.mkdirs())
+            throw new IOException("The directory '" + directory + "' cannot be created.");
+        DiskCache cache = new DiskCache(directory, segmentSize);
+        cache.load();
+        return cache;
+    }
+
+    /**
+     * The location of a record within a segment.
+     */
+    private static final class Location {
+
+        private final Segment segment;
+
+        private final String key;
+
+        /**
+         * The length of the whole record.
+         */
+        private final int length;
+
+        private final int payloadOffset;
+
+        private final int payloadLength;
+
+        private final long storedAt;
+
+        private final long expiresAt;
+
+        private Location(Segment segment, String key, int length, int payloadOffset,
+                         int payloadLength, long storedAt, long expiresAt) {
+            this.segment = segment;
+            this.key = key;
+            this.length = length;
+            this.payloadOffset = payloadOffset;
+            this.payloadLength = payloadLength;
+            this.storedAt = storedAt;
+            this.expiresAt = expiresAt;
+        }
+
+    }
+
+    /**
+     * One memory-mapped segment file, that records are appended to.
+     */
+    private static final class Segment {
+
+        @NotNull
+        private final File file;
+
+        @NotNull
+        private final MappedByteBuffer buffer;
+
+        /**
+         * The position the next record is written at.
+         */
+        private int position;
+
+        private Segment(@NotNull File file, @NotNull MappedByteBuffer buffer) {
+            this.file = file;
+            this.buffer = buffer;
+        }
+
+        private int remaining() {
+            return buffer.capacity() - position;
+        }
+
+        /**
+         * Appends a new record and returns its location. The magic number
+         * is written last, so a torn record is never considered complete.
+         */
+        private Location append(byte[] key, byte[] payload, long storedAt, long expiresAt) {
+            int start = position;
+            int length = RECORD_OVERHEAD + key.length + payload.length;
+            ByteBuffer view = buffer.duplicate();
+            view.position(start + 4);
+            view.putInt(length);
+            view.putLong(storedAt);
+            view.putLong(expiresAt);
+            view.putShort((short) key.length);
+            view.put(key);
+            view.putInt(payload.length);
+            int payloadOffset = view.position();
+            view.put(payload);
+            view.putInt(checksum(start, length));
+            buffer.putInt(start, MAGIC);
+            position = start + length;
+            return new Location(this, new String(key, StandardCharsets.UTF_8),
+                    length, payloadOffset, payload.length, storedAt, expiresAt);
+        }
+
+        /**
+         * Reads the record at the current position and moves behind it, or
+         * returns null if there is no further valid record.
+         */
+        private Location next() {
+            int start = position;
+            if (buffer.capacity() - start < RECORD_OVERHEAD
+                    || buffer.getInt(start) != MAGIC)
+                return null;
+            int length = buffer.getInt(start + 4);
+            if (length < RECORD_OVERHEAD || length > buffer.capacity() - start)
+                return null;
+            ByteBuffer view = buffer.duplicate();
+            view.position(start + 8);
+            long storedAt = view.getLong();
+            long expiresAt = view.getLong();
+            int keyLength = view.getShort();
+            if (keyLength < 0 || RECORD_OVERHEAD + keyLength > length)
+                return null;
+            byte[] key = new byte[keyLength];
+            view.get(key);
+            int payloadLength = view.getInt();
+            if (payloadLength != length - RECORD_OVERHEAD - keyLength)
+                return null;
+            int payloadOffset = view.position();
+            view.position(payloadOffset + payloadLength);
+            if (view.getInt() != checksum(start, length))
+                return null;
+            position = start + length;
+            return new Location(this, new String(key, StandardCharsets.UTF_8),
+                    length, payloadOffset, payloadLength, storedAt, expiresAt);
+        }
+
+        /**
+         * Returns the checksum of the record at {@code start}, covering
+         * everything between the magic number and the checksum itself.
+         */
+        private int checksum(int start, int length) {
+            ByteBuffer view = buffer.duplicate();
+            view.position(start + 4);
+            view.limit(start + length - 4);
+            byte[] bytes = new byte[view.remaining()];
+            view.get(bytes);
+            CRC32 crc = new CRC32();
+            crc.update(bytes, 0, bytes.length);
+            return (int) crc.getValue();
+        }
+
+        private static Segment map(File file, int size) throws IOException {
+            try (RandomAccessFile raf = new RandomAccessFile(file, "rw");
+                 FileChannel channel = raf.getChannel()) {
+                //The mapping stays valid after the channel is closed
+                return new Segment(file, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,302 @@
+package io.github.mindcubr.jsdb.fetch.cache;
+
+import org.apache.commons.lang3.Validate;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded and thread-safe in-memory cache, whose entries expire after
+ * a fixed time to live.
+ * <p>The cache is split into segments, each guarded by its own lock and
+ * evicting its <em>least recently used</em> entry once it is full, so
+ * threads accessing different keys rarely contend with each other.
+ * Expired entries are not returned by {@link #get(Object)}, but they are
+ * kept until evicted, so callers can still revalidate them.
+ * <p>The number of hits, misses and evictions is counted and can be used
+ * to monitor the effectiveness of the cache.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of cached values
+ * @author mindcubr
+ * @since 1.0-0.3
+ */
+public class ExpiringCache<K, V> {
+
+    /**
+     * The number of segments of a cache that is big enough.
+     */
+    private static final int SEGMENTS = 16;
+
+    @NotNull
+    private final Segment<K, V>[] segments;
+
+    private final long timeToLive;
+
+    private final int maximumSize;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    protected ExpiringCache(long timeToLive, int maximumSize) {
+        Validate.isTrue(timeToLive > 0, "The time to live must be positive.");
+        Validate.isTrue(maximumSize > 0, "The maximum size must be positive.");
+        this.timeToLive = TimeUnit.MILLISECONDS.toNanos(timeToLive);
+        this.maximumSize = maximumSize;
+        int count = maximumSize >= SEGMENTS * 4 ? SEGMENTS : 1;
+        this.segments = (Segment<K, V>[]) new Segment<?, ?>[count];
+        for (int i = 0; i < count; i++) {
+            //Spread the remainder onto the first segments
+            int capacity = maximumSize / count + (i < maximumSize % count ? 1 : 0);
+            segments[i] = new Segment<>(capacity, evictions);
+        }
+    }
+
+    /**
+     * Returns the value cached for the input {@code key}, or null if no
+     * value is cached or the cached value is expired.
+     *
+     * @param key the key of the value
+     * @return the cached value or null.
+     */
+    @Nullable
+    public V get(@NotNull K key) {
+        Entry<V> entry = getEntry(key);
+        if (entry == null || entry.isExpired()) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.value;
+    }
+
+    /**
+     * Returns the entry cached for the input {@code key}, even if it is
+     * expired, or null if no entry is cached.
+     * <p>This method does not count as a hit or miss.
+     *
+     * @param key the key of the entry
+     * @return the cached entry or null.
+     */
+    @Nullable
+    public Entry<V> getEntry(@NotNull K key) {
+        Objects.requireNonNull(key);
+        Segment<K, V> segment = segmentOf(key);
+        synchronized (segment) {
+            return segment.get(key);
+        }
+    }
+
+    /**
+     * Caches the input {@code value} for the {@code key}, replacing any
+     * previously cached value and evicting the least recently used entry
+     * if the cache is full.
+     *
+     * @param key   the key of the value
+     * @param value the value to cache
+     */
+    public void put(@NotNull K key, @NotNull V value) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+        Entry<V> entry = new Entry<>(value, System.nanoTime() + timeToLive);
+        Segment<K, V> segment = segmentOf(key);
+        synchronized (segment) {
+            segment.put(key, entry);
+        }
+    }
+
+    /**
+     * Caches the input {@code value} for the {@code key}, unless a fresh
+     * value is already cached for it.
+     *
+     * @param key   the key of the value
+     * @param value the value to cache
+     * @return the fresh value already cached, or null if the input
+     * {@code value} was cached.
+     */
+    @Nullable
+    public V putIfAbsent(@NotNull K key, @NotNull V value) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+        Segment<K, V> segment = segmentOf(key);
+        synchronized (segment) {
+            Entry<V> current = segment.get(key);
+            if (current != null && !current.isExpired())
+                return current.value;
+            segment.put(key, new Entry<>(value, System.nanoTime() + timeToLive));
+            return null;
+        }
+    }
+
+    /**
+     * Removes the value cached for the input {@code key}, if any.
+     *
+     * @param key the key of the value
+     */
+    public void invalidate(@NotNull K key) {
+        Objects.requireNonNull(key);
+        Segment<K, V> segment = segmentOf(key);
+        synchronized (segment) {
+            segment.remove(key);
+        }
+    }
+
+    /**
+     * Removes every cached value.
+     */
+    public void clear() {
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of entries cached, including expired entries.
+     */
+    public int size() {
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Returns the maximum number of entries cached at once.
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Returns the number of lookups that returned a cached value.
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that returned no value, because
+     * it was not cached or expired.
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of entries evicted because the cache was full.
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "ExpiringCache{" +
+                "size=" + size() +
+                ", maximumSize=" + maximumSize +
+                ", hits=" + getHits() +
+                ", misses=" + getMisses() +
+                ", evictions=" + getEvictions() +
+                '}';
+    }
+
+    private Segment<K, V> segmentOf(K key) {
+        int hash = key.hashCode();
+        //Spread the higher bits, as the segment count is a power of two
+        hash ^= hash >>> 16;
+        return segments[hash & (segments.length - 1)];
+    }
+
+    /**
+     * Creates a new and empty {@link ExpiringCache}.
+     *
+     * @param timeToLive  the milliseconds a value is fresh after being cached
+     * @param maximumSize the maximum number of entries cached at once
+     * @return a new {@link ExpiringCache} instance.
+     * @throws IllegalArgumentException - if an input is not positive.
+     */
+    public static <K, V> ExpiringCache<K, V> create(long timeToLive, int maximumSize) {
+        return new ExpiringCache<>(timeToLive, maximumSize);
+    }
+
+    /**
+     * A value cached within an {@link ExpiringCache}.
+     *
+     * @param <V> the type of cached value
+     */
+    public static final class Entry<V> {
+
+        @NotNull
+        private final V value;
+
+        /**
+         * The {@link System#nanoTime()} this entry expires at.
+         */
+        private final long expiresAt;
+
+        private Entry(@NotNull V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        /**
+         * Returns the cached value.
+         */
+        @NotNull
+        public V getValue() {
+            return value;
+        }
+
+        /**
+         * Returns whether this entry is expired and should be refreshed.
+         */
+        public boolean isExpired() {
+            return System.nanoTime() - expiresAt >= 0;
+        }
+
+    }
+
+    /**
+     * One segment of the cache, which is a map in access order
+     * evicting its least recently used entry when full.
+     */
+    private static final class Segment<K, V> extends LinkedHashMap<K, ExpiringCache.Entry<V>> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int capacity;
+
+        @NotNull
+        private final LongAdder evictions;
+
+        private Segment(int capacity, @NotNull LongAdder evictions) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+            this.evictions = evictions;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, ExpiringCache.Entry<V>> eldest) {
+            if (size() <= capacity)
+                return false;
+            evictions.increment();
+            return true;
+        }
+
+    }
+
+}
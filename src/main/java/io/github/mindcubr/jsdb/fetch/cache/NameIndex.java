@@ -0,0 +1,134 @@
+package io.github.mindcubr.jsdb.fetch.cache;
+
+import io.github.mindcubr.jsdb.Platform;
+import io.github.mindcubr.jsdb.deserialize.Alias;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Index resolving the names of users on a {@link Platform} to their IDs,
+ * including the names they had in their {@link Alias alias} history, so
+ * users can be fetched by their ID instead of searching their name.
+ * <p>Names are compared case-insensitively. The current name of a user
+ * always replaces the user indexed for that name, while an alias only
+ * indexes its user if the name does not belong to another user yet, as
+ * old names may have been taken over by someone else.
+ * <p>The index also remembers the platform of every indexed ID, so users
+ * fetched by their ID can be indexed as well.
+ *
+ * @author mindcubr
+ * @since 1.0-0.3
+ */
+public class NameIndex {
+
+    /**
+     * The IDs of users mapped by their {@link #key(Platform, String) key}.
+     */
+    @NotNull
+    private final ExpiringCache<String, String> ids;
+
+    /**
+     * The platforms of users mapped by their ID.
+     */
+    @NotNull
+    private final ExpiringCache<String, Platform> platforms;
+
+    protected NameIndex(long timeToLive, int maximumSize) {
+        this.ids = ExpiringCache.create(timeToLive, maximumSize);
+        this.platforms = ExpiringCache.create(timeToLive, maximumSize);
+    }
+
+    /**
+     * Returns the ID of the user with the input {@code name} on the
+     * {@code platform}, or null if the name is not indexed.
+     *
+     * @param platform the platform of the user
+     * @param name     the current or a former name of the user
+     */
+    @Nullable
+    public String resolve(@NotNull Platform platform, @NotNull String name) {
+        return ids.get(key(platform, name));
+    }
+
+    /**
+     * Returns the platform of the user with the input {@code id}, or
+     * null if the user is not indexed.
+     *
+     * @param id the ID of the user
+     */
+    @Nullable
+    public Platform getPlatform(@NotNull String id) {
+        return platforms.get(id);
+    }
+
+    /**
+     * Indexes the user with the input {@code id} on the {@code platform}
+     * by its current {@code name} and its {@code aliases}.
+     *
+     * @param platform the platform of the user
+     * @param id       the ID of the user
+     * @param name     the current name of the user, or null
+     * @param aliases  the former names of the user
+     */
+    public void put(@NotNull Platform platform, @NotNull String id,
+                    @Nullable String name, @NotNull Alias[] aliases) {
+        Objects.requireNonNull(platform);
+        Objects.requireNonNull(id);
+        Objects.requireNonNull(aliases);
+        platforms.put(id, platform);
+        if (name != null)
+            ids.put(key(platform, name), id);
+        for (Alias alias : aliases) {
+            //Aliases without a nickname cannot be resolved
+            if (alias != null && alias.hasName())
+                ids.putIfAbsent(key(platform, alias.getName()), id);
+        }
+    }
+
+    /**
+     * Removes the input {@code name} on the {@code platform} from this
+     * index, e.g. because the indexed user does not exist anymore.
+     *
+     * @param platform the platform of the user
+     * @param name     the name to remove
+     */
+    public void invalidate(@NotNull Platform platform, @NotNull String name) {
+        ids.invalidate(key(platform, name));
+    }
+
+    /**
+     * Returns the number of names indexed, including expired names
+     * that are not yet evicted.
+     */
+    public int size() {
+        return ids.size();
+    }
+
+    /**
+     * Returns the key identifying the input {@code name} on the
+     * {@code platform}, which ignores the case of the name.
+     *
+     * @param platform the platform of the name
+     * @param name     the name
+     */
+    @NotNull
+    public static String key(@NotNull Platform platform, @NotNull String name) {
+        return platform.toShort() + ':' + name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Creates a new and empty {@link NameIndex}.
+     *
+     * @param timeToLive  the milliseconds a name stays indexed
+     * @param maximumSize the maximum number of names indexed at once
+     * @return a new {@link NameIndex} instance.
+     * @throws IllegalArgumentException - if an input is not positive.
+     */
+    public static NameIndex create(long timeToLive, int maximumSize) {
+        return new NameIndex(timeToLive, maximumSize);
+    }
+
+}
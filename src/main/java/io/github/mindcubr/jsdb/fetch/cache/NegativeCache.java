@@ -0,0 +1,139 @@
+package io.github.mindcubr.jsdb.fetch.cache;
+
+import org.apache.commons.lang3.Validate;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache of keys known to be missing, such as names of users that do not
+ * exist, that are forgotten after a fixed time to live.
+ * <p>Every key is added to a {@link BloomFilter} as well as to an exact
+ * {@link ExpiringCache}. Lookups of keys that were never added, which
+ * are the majority, are answered by the filter alone without touching
+ * the exact cache. The filter is split into two generations, that are
+ * rotated once the current generation is as old as the time to live, so
+ * forgotten keys also leave the filter eventually. More keys than expected
+ * within one time to live only raise the false positive rate of the filter,
+ * as its positives are always confirmed by the exact cache.
+ *
+ * @author mindcubr
+ * @since 1.0-0.3
+ */
+public class NegativeCache {
+
+    /**
+     * The accepted false positive rate of each filter generation.
+     */
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    /**
+     * The exact keys, whose values are unused.
+     */
+    @NotNull
+    private final ExpiringCache<String, Boolean> keys;
+
+    private final int expectedSize;
+
+    private final long timeToLive;
+
+    /**
+     * The generation keys are currently added to.
+     */
+    @NotNull
+    private volatile BloomFilter current;
+
+    /**
+     * The previous generation, still containing the keys
+     * added before the last rotation.
+     */
+    @NotNull
+    private volatile BloomFilter previous;
+
+    /**
+     * The time of the last rotation in nanoseconds.
+     */
+    private volatile long rotatedAt = System.nanoTime();
+
+    protected NegativeCache(long timeToLive, int expectedSize) {
+        Validate.isTrue(timeToLive > 0, "The time to live must be positive.");
+        Validate.isTrue(expectedSize > 0, "The expected size must be positive.");
+        this.keys = ExpiringCache.create(timeToLive, expectedSize);
+        this.expectedSize = expectedSize;
+        this.timeToLive = TimeUnit.MILLISECONDS.toNanos(timeToLive);
+        this.current = BloomFilter.create(expectedSize, FALSE_POSITIVE_RATE);
+        this.previous = BloomFilter.create(expectedSize, FALSE_POSITIVE_RATE);
+    }
+
+    /**
+     * Returns whether the input {@code key} is known to be missing.
+     *
+     * @param key the key to look up
+     */
+    public boolean contains(@NotNull String key) {
+        Objects.requireNonNull(key);
+        if (!current.mightContain(key) && !previous.mightContain(key))
+            return false;
+        return keys.get(key) != null;
+    }
+
+    /**
+     * Remembers the input {@code key} as missing.
+     *
+     * @param key the missing key
+     */
+    public void put(@NotNull String key) {
+        Objects.requireNonNull(key);
+        keys.put(key, Boolean.TRUE);
+        rotateIfNecessary();
+        current.put(key);
+    }
+
+    /**
+     * Forgets the input {@code key}, e.g. because it exists now.
+     *
+     * @param key the key to forget
+     */
+    public void invalidate(@NotNull String key) {
+        Objects.requireNonNull(key);
+        if (current.mightContain(key) || previous.mightContain(key))
+            keys.invalidate(key);
+    }
+
+    /**
+     * Returns the number of keys currently remembered, including
+     * keys that are already expired but not yet evicted.
+     */
+    public int size() {
+        return keys.size();
+    }
+
+    private void rotateIfNecessary() {
+        if (System.nanoTime() - rotatedAt < timeToLive)
+            return;
+        synchronized (this) {
+            if (System.nanoTime() - rotatedAt < timeToLive)
+                return;
+            //Rotations are at least one TTL apart, so the dropped
+            //generation only contains keys that are already expired
+            previous = current;
+            current = BloomFilter.create(expectedSize, FALSE_POSITIVE_RATE);
+            rotatedAt = System.nanoTime();
+        }
+    }
+
+    /**
+     * Creates a new and empty {@link NegativeCache}.
+     *
+     * @param timeToLive   the milliseconds a key is remembered
+     * @param expectedSize the number of keys expected within one
+     *                     time to live, also bounding the exact cache
+     * @return a new {@link NegativeCache} instance.
+     * @throws IllegalArgumentException - if an input is not positive.
+     */
+    public static NegativeCache create(long timeToLive, int expectedSize) {
+        return new NegativeCache(timeToLive, expectedSize);
+    }
+
+}
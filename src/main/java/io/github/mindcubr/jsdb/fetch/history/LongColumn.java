@@ -0,0 +1,182 @@
+package io.github.mindcubr.jsdb.fetch.history;
+
+import java.util.Arrays;
+
+/**
+ * Append-only column of {@code long} values, stored as the zigzag and
+ * variable-length encoded differences between consecutive values, so
+ * that slowly changing counters take one or two bytes per value.
+ * <p>Every {@link #CHECKPOINT_INTERVAL} values a checkpoint keeps the
+ * offset and preceding value, so a range can be decoded without decoding
+ * the column from its start.
+ * <p>A column is not thread-safe.
+ *
+ * @author mindcubr
+ * @since 1.0-0.3
+ */
+final class LongColumn {
+
+    /**
+     * The number of values between two checkpoints, a power of two.
+     */
+    static final int CHECKPOINT_INTERVAL = 64;
+
+    private static final int CHECKPOINT_SHIFT = 6;
+
+    private byte[] data = new byte[16];
+
+    /**
+     * The number of bytes used of the {@link #data}.
+     */
+    private int length;
+
+    private int size;
+
+    /**
+     * The value appended last, or {@code 0} if empty.
+     */
+    private long last;
+
+    /**
+     * The offsets of the first value after each checkpoint.
+     */
+    private int[] checkpointOffsets = new int[1];
+
+    /**
+     * The values preceding the first value after each checkpoint.
+     */
+    private long[] checkpointValues = new long[1];
+
+    /**
+     * Appends the input {@code value} to this column.
+     *
+     * @param value the value to append
+     */
+    void add(long value) {
+        if ((size & (CHECKPOINT_INTERVAL - 1)) == 0) {
+            int checkpoint = size >>> CHECKPOINT_SHIFT;
+            if (checkpoint == checkpointOffsets.length) {
+                checkpointOffsets = Arrays.copyOf(checkpointOffsets, checkpoint << 1);
+                checkpointValues = Arrays.copyOf(checkpointValues, checkpoint << 1);
+            }
+            checkpointOffsets[checkpoint] = length;
+            checkpointValues[checkpoint] = last;
+        }
+        //Differences may overflow, which the decoding overflows back
+        long delta = value - last;
+        writeVarLong((delta << 1) ^ (delta >> 63));
+        last = value;
+        size++;
+    }
+
+    /**
+     * Returns the value at the input {@code index}.
+     *
+     * @param index the index of the value
+     * @throws IndexOutOfBoundsException - if the {@code index} is out of range.
+     */
+    long get(int index) {
+        long[] value = new long[1];
+        read(index, index + 1, value, 0);
+        return value[0];
+    }
+
+    /**
+     * Decodes the values from index {@code from} inclusive to {@code to}
+     * exclusive into the {@code target}, starting at {@code offset}.
+     *
+     * @param from   the index of the first value
+     * @param to     the index after the last value
+     * @param target the array to decode into
+     * @param offset the index of the target to write the first value at
+     * @throws IndexOutOfBoundsException - if the range is out of bounds.
+     */
+    void read(int from, int to, long[] target, int offset) {
+        if (from < 0 || to > size || from > to)
+            throw new IndexOutOfBoundsException("Range " + from + " to " + to + " of " + size);
+        if (from == to)
+            return;
+        int checkpoint = from >>> CHECKPOINT_SHIFT;
+        int position = checkpointOffsets[checkpoint];
+        long value = checkpointValues[checkpoint];
+        for (int i = checkpoint << CHECKPOINT_SHIFT; i < to; i++) {
+            //Decode the variable-length and zigzag encoded difference
+            long encoded = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[position++];
+                encoded |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            value += (encoded >>> 1) ^ -(encoded & 1);
+            if (i >= from)
+                target[offset + i - from] = value;
+        }
+    }
+
+    /**
+     * Returns the index of the first value that is not less than the input
+     * {@code key}, assuming the values of this column are ascending.
+     *
+     * @param key the value to search
+     * @return the index of the first such value, or {@link #size()} if
+     * all values are less than the {@code key}.
+     */
+    int lowerBound(long key) {
+        if (size == 0 || last < key)
+            return size;
+        //Find the last checkpoint whose first value is less than the key
+        int low = 0;
+        int high = ((size - 1) >>> CHECKPOINT_SHIFT);
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (get(middle << CHECKPOINT_SHIFT) < key)
+                low = middle;
+            else
+                high = middle - 1;
+        }
+        int start = low << CHECKPOINT_SHIFT;
+        int end = Math.min(size, start + CHECKPOINT_INTERVAL);
+        long[] block = new long[end - start];
+        read(start, end, block, 0);
+        for (int i = 0; i < block.length; i++) {
+            if (block[i] >= key)
+                return start + i;
+        }
+        return end;
+    }
+
+    /**
+     * Returns the value appended last, or {@code 0} if empty.
+     */
+    long getLast() {
+        return last;
+    }
+
+    /**
+     * Returns the number of values in this column.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the approximate number of bytes this column occupies.
+     */
+    long getByteSize() {
+        return data.length + checkpointOffsets.length * (long) Integer.BYTES
+                + checkpointValues.length * (long) Long.BYTES;
+    }
+
+    private void writeVarLong(long value) {
+        if (length + 10 > data.length)
+            data = Arrays.copyOf(data, Math.max(data.length << 1, length + 10));
+        while ((value & ~0x7FL) != 0) {
+            data[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[length++] = (byte) value;
+    }
+
+}
@@ -0,0 +1,174 @@
+package io.github.mindcubr.jsdb.fetch.history;
+
+import io.github.mindcubr.jsdb.deserialize.siege.SiegeStats;
+import io.github.mindcubr.jsdb.deserialize.siege.SiegeStatsField;
+import org.apache.commons.lang3.Validate;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * The recorded statistics of one player, stored as one delta-encoded
+ * column per {@link SiegeStatsField} next to a column of timestamps,
+ * instead of keeping every snapshot as an object graph.
+ * <p>Range queries binary search the timestamps and decode only the
+ * values within the range of the queried field.
+ * <p>A history is thread-safe; queries may run concurrently, while
+ * recording excludes all other access.
+ *
+ * @author mindcubr
+ * @since 1.0-0.3
+ */
+public final class PlayerHistory {
+
+    @NotNull
+    private final String id;
+
+    @NotNull
+    private final LongColumn timestamps = new LongColumn();
+
+    /**
+     * The columns indexed by the ordinal of their field.
+     */
+    @NotNull
+    private final LongColumn[] columns;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    PlayerHistory(@NotNull String id) {
+        this.id = id;
+        this.columns = new LongColumn[SiegeStatsField.count()];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = new LongColumn();
+        }
+    }
+
+    /**
+     * Records the input {@code stats} at the {@code timestamp}.
+     *
+     * @param timestamp the time of the snapshot in milliseconds since the epoch
+     * @param stats     the statistics, or null if all fields are {@code 0}
+     * @throws IllegalArgumentException - if the {@code timestamp} is before
+     * the timestamp recorded last.
+     */
+    public void record(long timestamp, @Nullable SiegeStats stats) {
+        record(timestamp, SiegeStatsField.snapshot(stats));
+    }
+
+    /**
+     * Records the input {@code snapshot} at the {@code timestamp}.
+     *
+     * @param timestamp the time of the snapshot in milliseconds since the epoch
+     * @param snapshot  the values, see {@link SiegeStatsField#snapshot}
+     * @throws IllegalArgumentException - if the {@code timestamp} is before
+     * the timestamp recorded last or the {@code snapshot} has not exactly
+     * one value per field.
+     */
+    public void record(long timestamp, @NotNull long[] snapshot) {
+        Validate.isTrue(snapshot.length == columns.length,
+                "The snapshot must contain every field.");
+        lock.writeLock().lock();
+        try {
+            if (timestamps.size() != 0 && timestamp < timestamps.getLast())
+                throw new IllegalArgumentException("The timestamp must not be before the last.");
+            timestamps.add(timestamp);
+            for (int i = 0; i < columns.length; i++) {
+                columns[i].add(snapshot[i]);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the values of the input {@code field} recorded from the
+     * timestamp {@code from} inclusive to {@code to} exclusive.
+     *
+     * @param field the field to query
+     * @param from  the start of the range in milliseconds since the epoch
+     * @param to    the end of the range in milliseconds since the epoch
+     * @return a new series of the values within the range.
+     */
+    @NotNull
+    public TimeSeries query(@NotNull SiegeStatsField field, long from, long to) {
+        Objects.requireNonNull(field);
+        lock.readLock().lock();
+        try {
+            int start = timestamps.lowerBound(from);
+            int end = Math.max(start, timestamps.lowerBound(to));
+            long[] times = new long[end - start];
+            long[] values = new long[end - start];
+            timestamps.read(start, end, times, 0);
+            columns[field.ordinal()].read(start, end, values, 0);
+            return new TimeSeries(field, times, values);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the snapshot recorded last at or before the input
+     * {@code timestamp}.
+     *
+     * @param timestamp the time in milliseconds since the epoch
+     * @return a new snapshot, see {@link SiegeStatsField#snapshot}, or
+     * null if nothing was recorded until the {@code timestamp}.
+     */
+    @Nullable
+    public long[] getSnapshot(long timestamp) {
+        lock.readLock().lock();
+        try {
+            int index = timestamps.lowerBound(timestamp == Long.MAX_VALUE
+                    ? timestamp : timestamp + 1) - 1;
+            if (index < 0)
+                return null;
+            long[] snapshot = new long[columns.length];
+            for (int i = 0; i < columns.length; i++) {
+                columns[i].read(index, index + 1, snapshot, i);
+            }
+            return snapshot;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the ID of the player.
+     */
+    @NotNull
+    public String getID() {
+        return id;
+    }
+
+    /**
+     * Returns the number of recorded snapshots.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return timestamps.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the approximate number of bytes the columns occupy.
+     */
+    public long getByteSize() {
+        lock.readLock().lock();
+        try {
+            long size = timestamps.getByteSize();
+            for (LongColumn column : columns) {
+                size += column.getByteSize();
+            }
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+}
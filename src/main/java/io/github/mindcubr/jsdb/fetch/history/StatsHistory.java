@@ -0,0 +1,169 @@
+package io.github.mindcubr.jsdb.fetch.history;
+
+import io.github.mindcubr.jsdb.deserialize.siege.SiegePlayer;
+import io.github.mindcubr.jsdb.deserialize.siege.SiegeStatsField;
+import io.github.mindcubr.jsdb.fetch.watch.PlayerWatcher;
+import org.apache.commons.lang3.Validate;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Store of the statistics history of many players, e.g. of every player
+ * polled by a {@link PlayerWatcher} within a season.
+ * <p>Every player has its own {@link PlayerHistory}, which keeps each
+ * {@link SiegeStatsField} as a delta-encoded column of primitives, so
+ * that a snapshot takes a few bytes instead of an object graph and range
+ * queries such as <em>the MMR of the last seven days</em> scan arrays.
+ * <pre>{@code
+ * TimeSeries mmr = history.queryLast(id, SiegeStatsField.SEASONAL_RANKED_MMR,
+ *         7, TimeUnit.DAYS);
+ * }</pre>
+ * <p>A store is thread-safe.
+ *
+ * @author mindcubr
+ * @since 1.0-0.3
+ */
+public class StatsHistory {
+
+    /**
+     * The histories of players mapped by their ID.
+     */
+    private final ConcurrentMap<String, PlayerHistory> histories = new ConcurrentHashMap<>();
+
+    protected StatsHistory() {
+    }
+
+    /**
+     * Records the current statistics of the input {@code player}.
+     *
+     * @param player the player to record
+     */
+    public void record(@NotNull SiegePlayer player) {
+        record(player, System.currentTimeMillis());
+    }
+
+    /**
+     * Records the statistics of the input {@code player} at the {@code timestamp}.
+     *
+     * @param player    the player to record
+     * @param timestamp the time of the statistics in milliseconds since the epoch
+     * @throws IllegalArgumentException - if the {@code timestamp} is before
+     * the timestamp recorded last for the player.
+     */
+    public void record(@NotNull SiegePlayer player, long timestamp) {
+        Objects.requireNonNull(player);
+        getOrCreate(player.getID()).record(timestamp, player.getStats());
+    }
+
+    /**
+     * Records the input {@code snapshot} of the player with the {@code id}
+     * at the {@code timestamp}.
+     *
+     * @param id        the ID of the player
+     * @param timestamp the time of the snapshot in milliseconds since the epoch
+     * @param snapshot  the values, see {@link SiegeStatsField#snapshot}
+     * @throws IllegalArgumentException - if the {@code timestamp} is before
+     * the timestamp recorded last for the player.
+     */
+    public void record(@NotNull String id, long timestamp, @NotNull long[] snapshot) {
+        Objects.requireNonNull(snapshot);
+        getOrCreate(id).record(timestamp, snapshot);
+    }
+
+    /**
+     * Returns the values of the input {@code field} of the player with the
+     * {@code id} from the timestamp {@code from} inclusive to {@code to}
+     * exclusive.
+     *
+     * @param id    the ID of the player
+     * @param field the field to query
+     * @param from  the start of the range in milliseconds since the epoch
+     * @param to    the end of the range in milliseconds since the epoch
+     * @return the series of values, which is empty if the player
+     * was not recorded within the range.
+     */
+    @NotNull
+    public TimeSeries query(@NotNull String id, @NotNull SiegeStatsField field,
+                            long from, long to) {
+        Objects.requireNonNull(field);
+        PlayerHistory history = get(id);
+        if (history == null)
+            return new TimeSeries(field, new long[0], new long[0]);
+        return history.query(field, from, to);
+    }
+
+    /**
+     * Returns the values of the input {@code field} of the player with
+     * the {@code id} recorded within the last {@code duration}.
+     *
+     * @param id       the ID of the player
+     * @param field    the field to query
+     * @param duration the duration until now
+     * @param unit     the unit of the {@code duration}
+     * @return the series of values.
+     * @throws IllegalArgumentException - if the {@code duration} is negative.
+     */
+    @NotNull
+    public TimeSeries queryLast(@NotNull String id, @NotNull SiegeStatsField field,
+                                long duration, @NotNull TimeUnit unit) {
+        Validate.isTrue(duration >= 0, "The duration must not be negative.");
+        long now = System.currentTimeMillis();
+        return query(id, field, now - unit.toMillis(duration), Long.MAX_VALUE);
+    }
+
+    /**
+     * Returns the history of the player with the input {@code id},
+     * or null if the player was not recorded.
+     *
+     * @param id the ID of the player
+     */
+    @Nullable
+    public PlayerHistory get(@NotNull String id) {
+        return histories.get(Objects.requireNonNull(id));
+    }
+
+    /**
+     * Removes the history of the player with the input {@code id}.
+     *
+     * @param id the ID of the player
+     * @return the removed history, or null if the player was not recorded.
+     */
+    @Nullable
+    public PlayerHistory remove(@NotNull String id) {
+        return histories.remove(Objects.requireNonNull(id));
+    }
+
+    /**
+     * Returns the number of players recorded.
+     */
+    public int size() {
+        return histories.size();
+    }
+
+    /**
+     * Removes the histories of all players.
+     */
+    public void clear() {
+        histories.clear();
+    }
+
+    @NotNull
+    private PlayerHistory getOrCreate(@NotNull String id) {
+        return histories.computeIfAbsent(Objects.requireNonNull(id), PlayerHistory::new);
+    }
+
+    /**
+     * Creates a new and empty {@link StatsHistory}.
+     *
+     * @return a new history store.
+     */
+    public static StatsHistory create() {
+        return new StatsHistory();
+    }
+
+}
@@ -0,0 +1,113 @@
+package io.github.mindcubr.jsdb.fetch.history;
+
+import io.github.mindcubr.jsdb.deserialize.siege.SiegeStatsField;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The values of one {@link SiegeStatsField} of a player over a range of
+ * time, as decoded from a {@link PlayerHistory}.
+ * <p>Values are represented as described in {@link SiegeStatsField} and
+ * ordered by their ascending timestamps.
+ *
+ * @author mindcubr
+ * @since 1.0-0.3
+ */
+public final class TimeSeries {
+
+    @NotNull
+    private final SiegeStatsField field;
+
+    /**
+     * The timestamps in milliseconds since the epoch.
+     */
+    @NotNull
+    private final long[] timestamps;
+
+    @NotNull
+    private final long[] values;
+
+    TimeSeries(@NotNull SiegeStatsField field,
+               @NotNull long[] timestamps, @NotNull long[] values) {
+        this.field = field;
+        this.timestamps = timestamps;
+        this.values = values;
+    }
+
+    /**
+     * Returns the field of the values.
+     */
+    @NotNull
+    public SiegeStatsField getField() {
+        return field;
+    }
+
+    /**
+     * Returns the number of values.
+     */
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Returns whether this series contains no values.
+     */
+    public boolean isEmpty() {
+        return values.length == 0;
+    }
+
+    /**
+     * Returns the timestamp of the value at the input {@code index}
+     * in milliseconds since the epoch.
+     *
+     * @param index the index of the value
+     */
+    public long getTimestamp(int index) {
+        return timestamps[index];
+    }
+
+    /**
+     * Returns the value at the input {@code index}.
+     *
+     * @param index the index of the value
+     */
+    public long get(int index) {
+        return values[index];
+    }
+
+    /**
+     * Returns the value at the input {@code index} as a {@code double},
+     * decoding the raw bits of {@link SiegeStatsField.Type#DOUBLE} fields.
+     *
+     * @param index the index of the value
+     */
+    public double getDouble(int index) {
+        return field.toDouble(values[index]);
+    }
+
+    /**
+     * Returns the difference between the last and first value, or
+     * {@code 0} if this series is empty.
+     */
+    public double getChange() {
+        if (values.length == 0)
+            return 0;
+        return getDouble(values.length - 1) - getDouble(0);
+    }
+
+    /**
+     * Returns a copy of the timestamps.
+     */
+    @NotNull
+    public long[] getTimestamps() {
+        return timestamps.clone();
+    }
+
+    /**
+     * Returns a copy of the values.
+     */
+    @NotNull
+    public long[] getValues() {
+        return values.clone();
+    }
+
+}
@@ -5,16 +5,31 @@ import okhttp3.ResponseBody;
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
- * No description available.
+ * Response to a {@link DBRequest}, wrapping the received OkHttp
+ * {@link Response}.
+ * <p>A response holds a pooled connection until it is closed or its body
+ * is completely read, so it should be used in a try-with-resources block.
  *
  * @author mindcubr
  * @since 1.0-0.1
  */
-public class DBResponse {
+public class DBResponse implements Closeable {
 
     /**
      * The OkHttpResponse instance.
@@ -24,31 +39,124 @@ public class DBResponse {
 
     private DBRequest causer;
 
+    /**
+     * The body content once it was read, or null.
+     */
+    private byte[] bytes;
+
+    @NotNull
+    private final Lock lock = new ReentrantLock();
+
     protected DBResponse(@NotNull Response response, @NotNull DBRequest causer) {
         this.response = response;
         this.causer = causer;
     }
 
     /**
-     * Returns the main body response content as a {@link String}.
+     * Returns the main body response content as a {@link String}
+     * decoded as UTF-8.
      *
      * @return the actual body content.
-     * @throws IndexOutOfBoundsException - if the body content is too big
-     * and a buffer overflow would occur if not thrown.
+     * @throws UncheckedIOException - if the body cannot be read.
+     * @see #getBytes()
      */
     public String getContent() {
-        //Get the body of the response and null-check
-        ResponseBody body = response.body();
-        if (body != null) {
-            try {
-                //Return a new string out of the response body bytes
-                return new String(body.bytes());
-            } catch (IOException exc) {
-                //Rethrow the exception as an RuntimeException
-                throw new IndexOutOfBoundsException(exc.getMessage());
+        try {
+            return new String(getBytes(), StandardCharsets.UTF_8);
+        } catch (IOException exc) {
+            throw new UncheckedIOException(exc);
+        }
+    }
+
+    /**
+     * Returns the main body response content as bytes, or an empty array
+     * if the response has no body.
+     * <p>The body is read once and kept, so repeated calls and the views
+     * of this response share one copy of the content. After reading the
+     * body, the response is closed.
+     *
+     * @return the actual body content, which must not be modified.
+     * @throws IOException - if the body cannot be read.
+     * @since 1.0-0.3
+     */
+    @NotNull
+    public byte[] getBytes() throws IOException {
+        //A lock instead of a monitor, which would pin virtual threads
+        lock.lock();
+        try {
+            if (bytes == null) {
+                ResponseBody body = response.body();
+                bytes = body != null ? body.bytes() : new byte[0];
             }
+            return bytes;
+        } finally {
+            lock.unlock();
         }
-        return StringUtils.EMPTY;
+    }
+
+    /**
+     * Returns a read-only {@link ByteBuffer} view of the main body
+     * response content, without copying the content again.
+     *
+     * @return a read-only view of the actual body content.
+     * @throws IOException - if the body cannot be read.
+     * @see #getBytes()
+     * @since 1.0-0.3
+     */
+    @NotNull
+    public ByteBuffer getByteBuffer() throws IOException {
+        return ByteBuffer.wrap(getBytes()).asReadOnlyBuffer();
+    }
+
+    /**
+     * Returns an {@link InputStream} streaming the main body response
+     * content, without copying the body into memory first.
+     * <p>If the body was already {@link #getBytes() read}, the stream
+     * reads the kept content instead. Otherwise the body can only be
+     * streamed once, and closing the stream closes this response.
+     *
+     * @return a stream of the actual body content.
+     * @since 1.0-0.3
+     */
+    @NotNull
+    public InputStream getInputStream() {
+        lock.lock();
+        try {
+            if (bytes != null)
+                return new ByteArrayInputStream(bytes);
+            //Get the body of the response and null-check
+            ResponseBody body = response.body();
+            if (body != null) {
+                return body.byteStream();
+            }
+            return new ByteArrayInputStream(new byte[0]);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns a {@link Reader} streaming the main body response content
+     * decoded as UTF-8, without copying the body into memory first.
+     *
+     * @return a reader of the actual body content.
+     * @see #getInputStream()
+     * @since 1.0-0.3
+     */
+    @NotNull
+    public Reader getReader() {
+        return new InputStreamReader(getInputStream(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Closes this response, releasing its connection back to the pool of
+     * the HTTP client. The {@link #getBytes() read} content stays available.
+     *
+     * @since 1.0-0.3
+     */
+    @Override
+    public void close() {
+        response.close();
     }
 
     /**
@@ -62,6 +170,59 @@ public class DBResponse {
         return response.code();
     }
 
+    /**
+     * Returns the <em>ETag</em> header of this response, that identifies
+     * the version of the content, or null if not existing.
+     *
+     * @since 1.0-0.3
+     */
+    public String getETag() {
+        return response.header("ETag");
+    }
+
+    /**
+     * Returns the <em>Last-Modified</em> header of this response, or
+     * null if not existing.
+     *
+     * @since 1.0-0.3
+     */
+    public String getLastModified() {
+        return response.header("Last-Modified");
+    }
+
+    /**
+     * Returns whether the server answered a conditional request with
+     * <em>304: Not Modified</em>, so the cached content is still valid.
+     *
+     * @since 1.0-0.3
+     */
+    public boolean isNotModified() {
+        return response.code() == 304;
+    }
+
+    /**
+     * Returns the milliseconds the server asks to wait before sending
+     * the next request, read from the <em>Retry-After</em> header.
+     * <p>The header can either contain the seconds to wait or a date.
+     *
+     * @return the milliseconds to wait, or {@code -1} if the header is
+     * missing or invalid.
+     * @since 1.0-0.3
+     */
+    public long getRetryAfter() {
+        String header = response.header("Retry-After");
+        if (StringUtils.isBlank(header))
+            return -1;
+        try {
+            return TimeUnit.SECONDS.toMillis(Math.max(0, Long.parseLong(header.trim())));
+        } catch (NumberFormatException exc) {
+            Date date = response.headers().getDate("Retry-After");
+            if (date == null)
+                return -1;
+            return Math.max(0, date.getTime() - System.currentTimeMillis());
+        }
+    }
+
     /**
      * The actual origin of this response.
      * <p>The returning instance contains much more
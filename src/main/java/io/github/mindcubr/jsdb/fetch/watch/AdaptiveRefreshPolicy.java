@@ -0,0 +1,170 @@
+package io.github.mindcubr.jsdb.fetch.watch;
+
+import io.github.mindcubr.jsdb.deserialize.siege.SiegePlayer;
+import io.github.mindcubr.jsdb.deserialize.siege.SiegeStats;
+import io.github.mindcubr.jsdb.deserialize.siege.SiegeStatsField;
+import io.github.mindcubr.jsdb.deserialize.siege.SiegeUserStatus;
+import org.apache.commons.lang3.Validate;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link RefreshPolicy} adapting the interval of a player to its activity.
+ * <p>Players that are {@link SiegeUserStatus#isIngame() in game} are polled
+ * at the {@link #setIngameInterval(long) in game interval} and players whose
+ * seasonal statistics were {@link SiegeStats.Seasonal#getUpdateTime() updated}
+ * recently at the {@link #setRecentInterval(long) recent interval}. All other
+ * players are polled at the {@link #setIdleInterval(long) idle interval},
+ * which is doubled with every consecutive poll without change up to the
+ * {@link #setMaxInterval(long) maximum interval}.
+ * <p>Every setter returns this instance, so the policy can be configured
+ * fluently. The policy should not be changed while it is used.
+ *
+ * @author mindcubr
+ * @since 1.0-0.3
+ */
+public class AdaptiveRefreshPolicy implements RefreshPolicy {
+
+    public static final long DEFAULT_INGAME_INTERVAL = TimeUnit.MINUTES.toMillis(1);
+
+    public static final long DEFAULT_RECENT_INTERVAL = TimeUnit.MINUTES.toMillis(2);
+
+    public static final long DEFAULT_RECENT_WINDOW = TimeUnit.MINUTES.toMillis(30);
+
+    public static final long DEFAULT_IDLE_INTERVAL = TimeUnit.MINUTES.toMillis(5);
+
+    public static final long DEFAULT_MAX_INTERVAL = TimeUnit.HOURS.toMillis(1);
+
+    private long ingameInterval = DEFAULT_INGAME_INTERVAL;
+
+    private long recentInterval = DEFAULT_RECENT_INTERVAL;
+
+    private long recentWindow = DEFAULT_RECENT_WINDOW;
+
+    private long idleInterval = DEFAULT_IDLE_INTERVAL;
+
+    private long maxInterval = DEFAULT_MAX_INTERVAL;
+
+    protected AdaptiveRefreshPolicy() {
+    }
+
+    @Override
+    public long nextDelay(@NotNull String id, @Nullable SiegePlayer player,
+                          boolean changed, int idlePolls) {
+        if (player != null) {
+            SiegeUserStatus status = player.getUserStatus();
+            if (status != null && status.isIngame())
+                return ingameInterval;
+            if (changed || isRecentlyUpdated(player.getStats()))
+                return recentInterval;
+        }
+        //Back off exponentially, stopping the shift before it overflows
+        long delay = idleInterval;
+        for (int i = 1; i < idlePolls && delay < maxInterval; i++) {
+            delay <<= 1;
+        }
+        return Math.min(delay, maxInterval);
+    }
+
+    /**
+     * Returns whether the seasonal statistics of the input {@code stats}
+     * were updated within the {@link #setRecentWindow(long) recent window}.
+     *
+     * @param stats the statistics of a player, or null
+     */
+    protected boolean isRecentlyUpdated(@Nullable SiegeStats stats) {
+        if (stats == null)
+            return false;
+        long updated = Math.max(SiegeStatsField.SEASONAL_RANKED_UPDATE_TIME.get(stats),
+                SiegeStatsField.SEASONAL_CASUAL_UPDATE_TIME.get(stats));
+        if (updated <= 0)
+            return false;
+        //The update time is given in seconds, unless it is already too big
+        if (updated < 100_000_000_000L)
+            updated = TimeUnit.SECONDS.toMillis(updated);
+        return System.currentTimeMillis() - updated <= recentWindow;
+    }
+
+    /**
+     * Updates the milliseconds between polls of players in game.
+     *
+     * @param ingameInterval the new interval
+     * @return this policy instance
+     * @throws IllegalArgumentException - if the input is not positive.
+     */
+    public AdaptiveRefreshPolicy setIngameInterval(long ingameInterval) {
+        Validate.isTrue(ingameInterval > 0, "The interval must be positive.");
+        this.ingameInterval = ingameInterval;
+        return this;
+    }
+
+    /**
+     * Updates the milliseconds between polls of players that changed with
+     * their last poll or were updated within the recent window.
+     *
+     * @param recentInterval the new interval
+     * @return this policy instance
+     * @throws IllegalArgumentException - if the input is not positive.
+     */
+    public AdaptiveRefreshPolicy setRecentInterval(long recentInterval) {
+        Validate.isTrue(recentInterval > 0, "The interval must be positive.");
+        this.recentInterval = recentInterval;
+        return this;
+    }
+
+    /**
+     * Updates the milliseconds since the last update of a player, within
+     * which the player counts as recently updated.
+     *
+     * @param recentWindow the new window
+     * @return this policy instance
+     * @throws IllegalArgumentException - if the input is negative.
+     */
+    public AdaptiveRefreshPolicy setRecentWindow(long recentWindow) {
+        Validate.isTrue(recentWindow >= 0, "The window must not be negative.");
+        this.recentWindow = recentWindow;
+        return this;
+    }
+
+    /**
+     * Updates the milliseconds between polls of idle players, before
+     * the interval is backed off.
+     *
+     * @param idleInterval the new interval
+     * @return this policy instance
+     * @throws IllegalArgumentException - if the input is not positive.
+     */
+    public AdaptiveRefreshPolicy setIdleInterval(long idleInterval) {
+        Validate.isTrue(idleInterval > 0, "The interval must be positive.");
+        this.idleInterval = idleInterval;
+        return this;
+    }
+
+    /**
+     * Updates the maximum milliseconds between two polls of a player.
+     *
+     * @param maxInterval the new maximum interval
+     * @return this policy instance
+     * @throws IllegalArgumentException - if the input is not positive.
+     */
+    public AdaptiveRefreshPolicy setMaxInterval(long maxInterval) {
+        Validate.isTrue(maxInterval > 0, "The interval must be positive.");
+        this.maxInterval = maxInterval;
+        return this;
+    }
+
+    /**
+     * Creates a new {@link AdaptiveRefreshPolicy} containing the default
+     * intervals, which are one minute for players in game, two minutes for
+     * recently updated players and five minutes for idle players, backed
+     * off up to one hour.
+     *
+     * @return a new policy instance.
+     */
+    public static AdaptiveRefreshPolicy create() {
+        return new AdaptiveRefreshPolicy();
+    }
+
+}
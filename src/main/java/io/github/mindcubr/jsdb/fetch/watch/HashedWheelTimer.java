@@ -0,0 +1,224 @@
+package io.github.mindcubr.jsdb.fetch.watch;
+
+import org.apache.commons.lang3.Validate;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Timer scheduling a huge number of tasks at a low precision, using a
+ * hashed timing wheel.
+ * <p>The wheel is an array of buckets, each containing the tasks due
+ * within one tick. One thread advances the wheel every tick and runs the
+ * due tasks of the current bucket, so scheduling and cancelling a task
+ * is done in constant time, no matter how many tasks are scheduled.
+ * Tasks are run on the timer thread and should therefore only hand off
+ * their actual work to another executor.
+ *
+ * @author mindcubr
+ * @since 1.0-0.3
+ */
+public class HashedWheelTimer implements Closeable {
+
+    private static final AtomicInteger TIMER_COUNT = new AtomicInteger();
+
+    /**
+     * The maximum number of new timeouts moved into the wheel per tick,
+     * so a burst of scheduled tasks does not delay the current tick.
+     */
+    private static final int TRANSFERS_PER_TICK = 100_000;
+
+    private final long tickDuration;
+
+    @NotNull
+    private final List<Timeout>[] wheel;
+
+    private final int mask;
+
+    /**
+     * Timeouts scheduled since the last tick.
+     */
+    private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+
+    private final long startTime = System.nanoTime();
+
+    @NotNull
+    private final Thread worker;
+
+    /**
+     * The number of ticks passed, only accessed by the worker.
+     */
+    private long tick;
+
+    private volatile boolean closed;
+
+    @SuppressWarnings("unchecked")
+    protected HashedWheelTimer(long tickDuration, int ticksPerWheel) {
+        this.tickDuration = tickDuration;
+        //Round the size up to a power of two, so buckets are found by a mask
+        int size = Integer.highestOneBit(ticksPerWheel - 1) << 1;
+        this.wheel = (List<Timeout>[]) new List<?>[Math.max(1, size)];
+        for (int i = 0; i < wheel.length; i++) {
+            wheel[i] = new ArrayList<>();
+        }
+        this.mask = wheel.length - 1;
+        this.worker = new Thread(this::run, "jsdb-timer-" + TIMER_COUNT.incrementAndGet());
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Schedules the input {@code task} to run once after the {@code delay}.
+     * The task is run at the first tick after the delay has passed.
+     *
+     * @param task  the task to run on the timer thread
+     * @param delay the delay before the task is run
+     * @param unit  the unit of the {@code delay}
+     * @return the timeout, that can be used to cancel the task.
+     * @throws IllegalStateException - if this timer is closed.
+     */
+    @NotNull
+    public Timeout schedule(@NotNull Runnable task, long delay, @NotNull TimeUnit unit) {
+        Objects.requireNonNull(task);
+        Objects.requireNonNull(unit);
+        if (closed)
+            throw new IllegalStateException("The timer is closed.");
+        Timeout timeout = new Timeout(task, System.nanoTime() - startTime
+                + Math.max(0, unit.toNanos(delay)));
+        pending.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Stops this timer. Scheduled tasks are not run anymore.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        worker.interrupt();
+    }
+
+    private void run() {
+        while (!closed) {
+            //Sleep until the end of the current tick
+            long deadline = tickDuration * (tick + 1);
+            long sleep = deadline - (System.nanoTime() - startTime);
+            if (sleep > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(sleep);
+                } catch (InterruptedException exc) {
+                    if (closed)
+                        return;
+                    continue;
+                }
+            }
+            transferPending();
+            expire(wheel[(int) (tick & mask)]);
+            tick++;
+        }
+    }
+
+    /**
+     * Moves the timeouts scheduled since the last tick into their bucket.
+     */
+    private void transferPending() {
+        Timeout timeout;
+        for (int i = 0; i < TRANSFERS_PER_TICK && (timeout = pending.poll()) != null; i++) {
+            if (timeout.cancelled)
+                continue;
+            long ticks = Math.max(timeout.deadline / tickDuration, tick);
+            timeout.rounds = (ticks - tick) / wheel.length;
+            wheel[(int) (ticks & mask)].add(timeout);
+        }
+    }
+
+    /**
+     * Runs the due timeouts of the input {@code bucket} and removes them,
+     * along with cancelled timeouts.
+     */
+    private void expire(@NotNull List<Timeout> bucket) {
+        int kept = 0;
+        for (int i = 0, size = bucket.size(); i < size; i++) {
+            Timeout timeout = bucket.get(i);
+            if (timeout.cancelled)
+                continue;
+            if (timeout.rounds > 0) {
+                timeout.rounds--;
+                bucket.set(kept++, timeout);
+                continue;
+            }
+            try {
+                timeout.task.run();
+            } catch (Throwable ignored) {
+                //A failing task must not stop the timer
+            }
+        }
+        bucket.subList(kept, bucket.size()).clear();
+    }
+
+    /**
+     * Creates and starts a new {@link HashedWheelTimer}.
+     *
+     * @param tickDuration  the duration of one tick, so the precision
+     * @param unit          the unit of the {@code tickDuration}
+     * @param ticksPerWheel the number of buckets, rounded up to a power of two
+     * @return a new {@link HashedWheelTimer} instance.
+     * @throws IllegalArgumentException - if an input is not positive.
+     */
+    public static HashedWheelTimer create(long tickDuration, @NotNull TimeUnit unit,
+                                          int ticksPerWheel) {
+        Objects.requireNonNull(unit);
+        Validate.isTrue(tickDuration > 0, "The tick duration must be positive.");
+        Validate.isTrue(ticksPerWheel > 0, "The ticks per wheel must be positive.");
+        return new HashedWheelTimer(unit.toNanos(tickDuration), ticksPerWheel);
+    }
+
+    /**
+     * A task scheduled within a {@link HashedWheelTimer}.
+     */
+    public static final class Timeout {
+
+        @NotNull
+        private final Runnable task;
+
+        /**
+         * The deadline in nanoseconds relative to the start of the timer.
+         */
+        private final long deadline;
+
+        /**
+         * The remaining rotations of the wheel, only accessed by the worker.
+         */
+        private long rounds;
+
+        private volatile boolean cancelled;
+
+        private Timeout(@NotNull Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Cancels the task, if it did not run yet.
+         */
+        public void cancel() {
+            cancelled = true;
+        }
+
+        /**
+         * Returns whether the task was cancelled.
+         */
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+    }
+
+}
@@ -0,0 +1,380 @@
+package io.github.mindcubr.jsdb.fetch.watch;
+
+import io.github.mindcubr.jsdb.bridge.config.IFetchConfig;
+import io.github.mindcubr.jsdb.deserialize.siege.SiegePlayer;
+import io.github.mindcubr.jsdb.deserialize.siege.SiegeStatsField;
+import io.github.mindcubr.jsdb.fetch.DBFetcher;
+import org.apache.commons.lang3.Validate;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Closeable;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watcher polling the statistics of subscribed players periodically and
+ * notifying their {@link StatsChangeListener listeners} only about the
+ * fields that have changed since the previous poll.
+ * <p>Polls are scheduled on a {@link HashedWheelTimer}, so a huge number
+ * of players can be watched with one timer thread. When a player is polled
+ * next is decided by the {@link RefreshPolicy} of the watcher, so that e.g.
+ * an {@link AdaptiveRefreshPolicy} polls active players more often than
+ * idle players. Every poll is delayed by a random jitter and the first poll
+ * of a player is spread over its first delay, so that the polls of many
+ * players do not fire at once. The next poll of a player is scheduled once
+ * its previous poll completed.
+ * <p>Polls use the asynchronous fetches of the fetcher, so the players
+ * are fetched and the listeners are notified on the executor of its
+ * bridge, while the timer thread only schedules the polls. If users are
+ * {@link IFetchConfig#getCacheTTL() cached}, the delays should be
+ * longer than the time to live of the cache. If responses are also
+ * {@link IFetchConfig#getDiskCacheDirectory() persisted}, a failed poll
+ * returns the persisted response of up to the
+ * {@link IFetchConfig#getDiskCacheTTL() disk cache TTL} instead, so the
+ * listeners are not notified about the failure.
+ *
+ * @author mindcubr
+ * @since 1.0-0.3
+ */
+public class PlayerWatcher implements Closeable {
+
+    /**
+     * The default share of the interval that polls are randomly moved by.
+     */
+    public static final double DEFAULT_JITTER = 0.1;
+
+    /**
+     * The default milliseconds per tick of the timer, if the watcher is
+     * created with a {@link RefreshPolicy}.
+     */
+    public static final long DEFAULT_TICK = 100;
+
+    @NotNull
+    private final DBFetcher<SiegePlayer> fetcher;
+
+    @NotNull
+    private final RefreshPolicy policy;
+
+    private final double jitter;
+
+    @NotNull
+    private final HashedWheelTimer timer;
+
+    /**
+     * The watches of players mapped by their ID.
+     */
+    private final ConcurrentMap<String, Watch> watches = new ConcurrentHashMap<>();
+
+    protected PlayerWatcher(@NotNull DBFetcher<SiegePlayer> fetcher,
+                            @NotNull RefreshPolicy policy, double jitter, long tick) {
+        this.fetcher = fetcher;
+        this.policy = policy;
+        this.jitter = jitter;
+        this.timer = HashedWheelTimer.create(tick, TimeUnit.MILLISECONDS, 512);
+    }
+
+    /**
+     * Starts watching the player with the input {@code id}, notifying the
+     * {@code listener} about changes of its statistics.
+     * <p>The first poll only records the current statistics. Multiple
+     * listeners of the same player share its polls.
+     *
+     * @param id       the ID of the player to watch
+     * @param listener the listener to notify
+     */
+    public void watch(@NotNull String id, @NotNull StatsChangeListener listener) {
+        Objects.requireNonNull(id);
+        Objects.requireNonNull(listener);
+        watches.compute(id, (key, watch) -> {
+            if (watch == null) {
+                watch = new Watch(id);
+                long delay = policy.nextDelay(id, null, false, 0);
+                watch.schedule((long) (ThreadLocalRandom.current().nextDouble() * delay));
+            }
+            watch.listeners.add(listener);
+            return watch;
+        });
+    }
+
+    /**
+     * Removes the input {@code listener} of the player with the {@code id}.
+     * The player is not watched anymore once it has no listeners left.
+     *
+     * @param id       the ID of the watched player
+     * @param listener the listener to remove
+     */
+    public void unwatch(@NotNull String id, @NotNull StatsChangeListener listener) {
+        Objects.requireNonNull(id);
+        Objects.requireNonNull(listener);
+        watches.computeIfPresent(id, (key, watch) -> {
+            watch.listeners.remove(listener);
+            if (!watch.listeners.isEmpty())
+                return watch;
+            watch.cancel();
+            return null;
+        });
+    }
+
+    /**
+     * Stops watching the player with the input {@code id}, removing
+     * all of its listeners.
+     *
+     * @param id the ID of the watched player
+     */
+    public void unwatch(@NotNull String id) {
+        Watch watch = watches.remove(Objects.requireNonNull(id));
+        if (watch != null)
+            watch.cancel();
+    }
+
+    /**
+     * Returns whether the player with the input {@code id} is watched.
+     *
+     * @param id the ID of the player
+     */
+    public boolean isWatched(@NotNull String id) {
+        return watches.containsKey(id);
+    }
+
+    /**
+     * Returns the number of players watched.
+     */
+    public int size() {
+        return watches.size();
+    }
+
+    /**
+     * Stops watching all players and stops the timer of this watcher.
+     */
+    @Override
+    public void close() {
+        timer.close();
+        for (Watch watch : watches.values()) {
+            watch.cancel();
+        }
+        watches.clear();
+    }
+
+    /**
+     * Returns the {@link RefreshPolicy} deciding when players are polled.
+     */
+    @NotNull
+    public RefreshPolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * Returns the input {@code delay} moved randomly by up to the jitter.
+     */
+    private long jitter(long delay) {
+        double offset = (ThreadLocalRandom.current().nextDouble() * 2 - 1) * jitter;
+        return Math.max(0, (long) (delay * (1 + offset)));
+    }
+
+    /**
+     * Creates a new {@link PlayerWatcher} polling players every
+     * {@code interval}, moved randomly by up to {@link #DEFAULT_JITTER}.
+     *
+     * @param fetcher  the fetcher to poll players with
+     * @param interval the interval between two polls of a player
+     * @param unit     the unit of the {@code interval}
+     * @return a new {@link PlayerWatcher} instance.
+     * @throws IllegalArgumentException - if the {@code interval} is not positive.
+     */
+    public static PlayerWatcher create(@NotNull DBFetcher<SiegePlayer> fetcher,
+                                       long interval, @NotNull TimeUnit unit) {
+        return create(fetcher, interval, unit, DEFAULT_JITTER);
+    }
+
+    /**
+     * Creates a new {@link PlayerWatcher} polling players every
+     * {@code interval}, moved randomly by up to the {@code jitter}.
+     *
+     * @param fetcher  the fetcher to poll players with
+     * @param interval the interval between two polls of a player
+     * @param unit     the unit of the {@code interval}
+     * @param jitter   the share of the interval polls are moved by,
+     *                 between zero and one
+     * @return a new {@link PlayerWatcher} instance.
+     * @throws IllegalArgumentException - if the {@code interval} is not
+     * positive or the {@code jitter} is out of range.
+     */
+    public static PlayerWatcher create(@NotNull DBFetcher<SiegePlayer> fetcher,
+                                       long interval, @NotNull TimeUnit unit, double jitter) {
+        Objects.requireNonNull(fetcher);
+        Objects.requireNonNull(unit);
+        Validate.isTrue(interval > 0, "The interval must be positive.");
+        Validate.isTrue(jitter >= 0 && jitter <= 1, "The jitter must be between zero and one.");
+        //A tick of a hundredth of the interval is precise enough
+        long millis = unit.toMillis(interval);
+        return new PlayerWatcher(fetcher, RefreshPolicy.fixed(millis, TimeUnit.MILLISECONDS),
+                jitter, Math.max(1, Math.min(1000, millis / 100)));
+    }
+
+    /**
+     * Creates a new {@link PlayerWatcher} polling players when the input
+     * {@code policy} decides, moved randomly by up to {@link #DEFAULT_JITTER}.
+     *
+     * @param fetcher the fetcher to poll players with
+     * @param policy  the policy deciding when a player is polled next
+     * @return a new {@link PlayerWatcher} instance.
+     * @see AdaptiveRefreshPolicy
+     */
+    public static PlayerWatcher create(@NotNull DBFetcher<SiegePlayer> fetcher,
+                                       @NotNull RefreshPolicy policy) {
+        return create(fetcher, policy, DEFAULT_JITTER);
+    }
+
+    /**
+     * Creates a new {@link PlayerWatcher} polling players when the input
+     * {@code policy} decides, moved randomly by up to the {@code jitter}.
+     *
+     * @param fetcher the fetcher to poll players with
+     * @param policy  the policy deciding when a player is polled next
+     * @param jitter  the share of the delay polls are moved by,
+     *                between zero and one
+     * @return a new {@link PlayerWatcher} instance.
+     * @throws IllegalArgumentException - if the {@code jitter} is out of range.
+     */
+    public static PlayerWatcher create(@NotNull DBFetcher<SiegePlayer> fetcher,
+                                       @NotNull RefreshPolicy policy, double jitter) {
+        Objects.requireNonNull(fetcher);
+        Objects.requireNonNull(policy);
+        Validate.isTrue(jitter >= 0 && jitter <= 1, "The jitter must be between zero and one.");
+        return new PlayerWatcher(fetcher, policy, jitter, DEFAULT_TICK);
+    }
+
+    /**
+     * The subscription of one watched player.
+     */
+    private final class Watch {
+
+        @NotNull
+        private final String id;
+
+        private final List<StatsChangeListener> listeners = new CopyOnWriteArrayList<>();
+
+        /**
+         * The values of the previous poll, or null before the first poll.
+         */
+        private volatile long[] snapshot;
+
+        /**
+         * The number of consecutive polls without change.
+         */
+        private volatile int idlePolls;
+
+        private volatile HashedWheelTimer.Timeout timeout;
+
+        private volatile boolean cancelled;
+
+        private Watch(@NotNull String id) {
+            this.id = id;
+        }
+
+        private void schedule(long delay) {
+            if (!cancelled)
+                timeout = timer.schedule(this::poll, delay, TimeUnit.MILLISECONDS);
+        }
+
+        private void cancel() {
+            cancelled = true;
+            HashedWheelTimer.Timeout current = timeout;
+            if (current != null)
+                current.cancel();
+        }
+
+        private void poll() {
+            if (cancelled)
+                return;
+            CompletableFuture<SiegePlayer> future;
+            try {
+                future = fetcher.fetchPlayerByIDAsync(id);
+            } catch (RuntimeException exc) {
+                //The timer swallows exceptions, so the watch would stop
+                completeAsync(null, exc);
+                return;
+            }
+            future.whenComplete(this::completeAsync);
+        }
+
+        /**
+         * Runs {@link #complete(SiegePlayer, Throwable)} on the executor of
+         * the bridge, so slow listeners do not delay the timer thread, e.g.
+         * if the player was returned from the cache.
+         */
+        private void completeAsync(SiegePlayer player, Throwable exc) {
+            try {
+                fetcher.getBridge().getExecutor().execute(() -> complete(player, exc));
+            } catch (RejectedExecutionException rejected) {
+                //The executor is shut down, which must not stop the watch
+                complete(player, exc);
+            }
+        }
+
+        /**
+         * Notifies the listeners about the result of a poll and schedules
+         * the next poll.
+         */
+        private void complete(SiegePlayer player, Throwable exc) {
+            if (cancelled)
+                return;
+            boolean changed = false;
+            if (exc != null) {
+                Throwable cause = exc instanceof CompletionException && exc.getCause() != null
+                        ? exc.getCause() : exc;
+                for (StatsChangeListener listener : listeners) {
+                    try {
+                        listener.onFailure(id, cause);
+                    } catch (RuntimeException ignored) {
+                        //A failing listener must not stop the watch
+                    }
+                }
+            } else {
+                changed = notify(player);
+            }
+            idlePolls = changed ? 0 : idlePolls + 1;
+            long delay;
+            try {
+                delay = policy.nextDelay(id, exc == null ? player : null, changed, idlePolls);
+            } catch (RuntimeException ignored) {
+                //A failing policy must not stop the watch
+                delay = AdaptiveRefreshPolicy.DEFAULT_IDLE_INTERVAL;
+            }
+            schedule(jitter(Math.max(0, delay)));
+        }
+
+        /**
+         * Notifies the listeners about changes of the {@code player} and
+         * returns whether its statistics changed.
+         */
+        private boolean notify(@NotNull SiegePlayer player) {
+            long[] current = SiegeStatsField.snapshot(player.getStats());
+            long[] previous = snapshot;
+            snapshot = current;
+            if (previous == null)
+                return false;
+            StatsChange change = StatsChange.compare(player, previous, current);
+            if (change == null)
+                return false;
+            for (StatsChangeListener listener : listeners) {
+                try {
+                    listener.onChange(change);
+                } catch (RuntimeException ignored) {
+                    //A failing listener must not stop the watch
+                }
+            }
+            return true;
+        }
+
+    }
+
+}
@@ -0,0 +1,52 @@
+package io.github.mindcubr.jsdb.fetch.watch;
+
+import io.github.mindcubr.jsdb.deserialize.siege.SiegePlayer;
+import org.apache.commons.lang3.Validate;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Policy deciding when a player watched by a {@link PlayerWatcher} is
+ * polled next, so that players likely to change are polled more often
+ * than idle players.
+ *
+ * @author mindcubr
+ * @see AdaptiveRefreshPolicy
+ * @since 1.0-0.3
+ */
+@FunctionalInterface
+public interface RefreshPolicy {
+
+    /**
+     * Returns the milliseconds until the next poll of a player, after
+     * a poll completed.
+     * <p>The {@link PlayerWatcher} adds its random jitter to the result.
+     *
+     * @param id        the ID of the player
+     * @param player    the polled player, or null if the poll failed or
+     *                  the player was not polled yet
+     * @param changed   whether the statistics changed with this poll
+     * @param idlePolls the number of consecutive polls without change,
+     *                  including failed polls
+     * @return the delay until the next poll in milliseconds.
+     */
+    long nextDelay(@NotNull String id, @Nullable SiegePlayer player,
+                   boolean changed, int idlePolls);
+
+    /**
+     * Returns a policy polling every player at the same fixed {@code interval}.
+     *
+     * @param interval the interval between two polls
+     * @param unit     the unit of the {@code interval}
+     * @return a new fixed policy.
+     * @throws IllegalArgumentException - if the {@code interval} is not positive.
+     */
+    static RefreshPolicy fixed(long interval, @NotNull TimeUnit unit) {
+        Validate.isTrue(interval > 0, "The interval must be positive.");
+        final long millis = unit.toMillis(interval);
+        return (id, player, changed, idlePolls) -> millis;
+    }
+
+}
@@ -0,0 +1,165 @@
+package io.github.mindcubr.jsdb.fetch.watch;
+
+import io.github.mindcubr.jsdb.deserialize.siege.SiegePlayer;
+import io.github.mindcubr.jsdb.deserialize.siege.SiegeStatsDiff;
+import io.github.mindcubr.jsdb.deserialize.siege.SiegeStatsField;
+import io.github.mindcubr.jsdb.deserialize.siege.StatsDelta;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * The fields of the statistics of a watched player that have changed
+ * between two polls, along with their previous and current values.
+ * <p>Values are represented as described in {@link SiegeStatsField}, the
+ * differences are computed by the {@link SiegeStatsDiff}.
+ *
+ * @author mindcubr
+ * @since 1.0-0.3
+ */
+public final class StatsChange {
+
+    @NotNull
+    private final SiegePlayer player;
+
+    @NotNull
+    private final StatsDelta delta;
+
+    /**
+     * The changed fields, created from the delta on first access.
+     */
+    private volatile Set<SiegeStatsField> fields;
+
+    /**
+     * The previous values, indexed by the ordinal of their field.
+     */
+    @NotNull
+    private final long[] previous;
+
+    /**
+     * The current values, indexed by the ordinal of their field.
+     */
+    @NotNull
+    private final long[] current;
+
+    private StatsChange(@NotNull SiegePlayer player, @NotNull StatsDelta delta,
+                        @NotNull long[] previous, @NotNull long[] current) {
+        this.player = player;
+        this.delta = delta;
+        this.previous = previous;
+        this.current = current;
+    }
+
+    /**
+     * Returns the ID of the changed player.
+     */
+    @NotNull
+    public String getID() {
+        return player.getID();
+    }
+
+    /**
+     * Returns the player as fetched by the current poll.
+     */
+    @NotNull
+    public SiegePlayer getPlayer() {
+        return player;
+    }
+
+    /**
+     * Returns the fields that have changed.
+     */
+    @NotNull
+    public Set<SiegeStatsField> getFields() {
+        Set<SiegeStatsField> fields = this.fields;
+        if (fields == null) {
+            EnumSet<SiegeStatsField> set = EnumSet.noneOf(SiegeStatsField.class);
+            for (int i = delta.nextChanged(0); i >= 0; i = delta.nextChanged(i + 1)) {
+                set.add(SiegeStatsField.of(i));
+            }
+            this.fields = fields = Collections.unmodifiableSet(set);
+        }
+        return fields;
+    }
+
+    /**
+     * Returns the differences of the changed fields.
+     */
+    @NotNull
+    public StatsDelta getDelta() {
+        return delta;
+    }
+
+    /**
+     * Returns whether the input {@code field} has changed.
+     *
+     * @param field the field to check
+     */
+    public boolean isChanged(@NotNull SiegeStatsField field) {
+        return delta.isChanged(field);
+    }
+
+    /**
+     * Returns the previous value of the input {@code field}.
+     *
+     * @param field the field
+     */
+    public long getPrevious(@NotNull SiegeStatsField field) {
+        return previous[field.ordinal()];
+    }
+
+    /**
+     * Returns the current value of the input {@code field}.
+     *
+     * @param field the field
+     */
+    public long getCurrent(@NotNull SiegeStatsField field) {
+        return current[field.ordinal()];
+    }
+
+    /**
+     * Returns the difference between the current and previous value
+     * of the input {@code field}, decoding the values of
+     * {@link SiegeStatsField.Type#DOUBLE double} fields.
+     *
+     * @param field the field
+     */
+    public double getDelta(@NotNull SiegeStatsField field) {
+        return delta.getDouble(field);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("StatsChange{id=").append(getID());
+        for (int i = delta.nextChanged(0); i >= 0; i = delta.nextChanged(i + 1)) {
+            SiegeStatsField field = SiegeStatsField.of(i);
+            builder.append(", ").append(field).append('=')
+                    .append(getPrevious(field)).append("->").append(getCurrent(field));
+        }
+        return builder.append('}').toString();
+    }
+
+    /**
+     * Compares the {@code previous} and {@code current} snapshots of the
+     * input {@code player} and returns their changes.
+     *
+     * @param player   the player of the current snapshot
+     * @param previous the previous values, see {@link SiegeStatsField#snapshot}
+     * @param current  the current values
+     * @return the changes, or null if no field has changed.
+     */
+    @Nullable
+    public static StatsChange compare(@NotNull SiegePlayer player,
+                                      @NotNull long[] previous, @NotNull long[] current) {
+        Objects.requireNonNull(player);
+        StatsDelta delta = StatsDelta.create();
+        if (!SiegeStatsDiff.diff(previous, current, delta))
+            return null;
+        return new StatsChange(player, delta, previous, current);
+    }
+
+}
@@ -0,0 +1,33 @@
+package io.github.mindcubr.jsdb.fetch.watch;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Listener notified by a {@link PlayerWatcher} whenever the statistics
+ * of a watched player have changed.
+ *
+ * @author mindcubr
+ * @since 1.0-0.3
+ */
+@FunctionalInterface
+public interface StatsChangeListener {
+
+    /**
+     * Called when at least one field of the statistics of a watched
+     * player has changed since the previous poll.
+     *
+     * @param change the changed fields
+     */
+    void onChange(@NotNull StatsChange change);
+
+    /**
+     * Called when a poll of a watched player failed. The player stays
+     * watched and is polled again later.
+     *
+     * @param id      the ID of the player
+     * @param failure the cause of the failure
+     */
+    default void onFailure(@NotNull String id, @NotNull Throwable failure) {
+    }
+
+}
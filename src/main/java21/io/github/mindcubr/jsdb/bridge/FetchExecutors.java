@@ -0,0 +1,76 @@
+package io.github.mindcubr.jsdb.bridge;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Factory of the executors running the fetches of a {@link DBBridge}.
+ * <p>This is the version for Java 21 and above, which can create an
+ * executor starting one virtual thread per fetch, so tens of thousands
+ * of blocked fetches can be waiting at once without a platform thread
+ * each. The number of requests actually sent at once is still limited
+ * by the {@link DBBridge}.
+ *
+ * @author mindcubr
+ * @since 1.0-0.3
+ */
+public final class FetchExecutors {
+
+    private static final AtomicInteger POOL_COUNT = new AtomicInteger();
+
+    private FetchExecutors() {
+    }
+
+    /**
+     * Returns whether the running Java version supports virtual threads.
+     */
+    public static boolean isVirtualThreadSupported() {
+        return true;
+    }
+
+    /**
+     * Creates a new executor running fetches.
+     * <p>If {@code virtualThreads} are requested, every fetch is run on a
+     * new virtual thread, so blocked fetches do not occupy a platform
+     * thread. Otherwise a fixed pool of {@code threads} daemon platform
+     * threads is created.
+     *
+     * @param threads        the number of platform threads of the pool
+     * @param virtualThreads whether virtual threads should be used
+     * @return a new executor.
+     */
+    @NotNull
+    public static ExecutorService newFetchExecutor(int threads, boolean virtualThreads) {
+        if (virtualThreads) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual()
+                    .name("jsdb-fetch-" + POOL_COUNT.incrementAndGet() + "-v", 1)
+                    .factory());
+        }
+        return Executors.newFixedThreadPool(threads, new FetchThreadFactory());
+    }
+
+    /**
+     * Thread factory of the default fetch pool, creating daemon
+     * threads so an idle pool does not keep the JVM alive.
+     */
+    private static final class FetchThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        private final int pool = POOL_COUNT.incrementAndGet();
+
+        @Override
+        public Thread newThread(@NotNull Runnable runnable) {
+            Thread thread = new Thread(runnable, "jsdb-fetch-"
+                    + pool + '-' + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+
+    }
+
+}
@@ -0,0 +1,214 @@
+package io.github.mindcubr.jsdb.fetch.cache;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the persistence, recovery and compaction of a {@link DiskCache}.
+ *
+ * @author mindcubr
+ * @since 1.0-0.3
+ */
+class DiskCacheTest {
+
+    private static final int SEGMENT_SIZE = 4096;
+
+    private static final long TTL = 60_000;
+
+    @TempDir
+    File directory;
+
+    @Test
+    void restoresRecordsWhenReopened() throws IOException {
+        DiskCache cache = DiskCache.open(directory, SEGMENT_SIZE);
+        cache.put("a", bytes("alpha"), TTL);
+        cache.put("b", bytes("beta"), TTL);
+        cache.put("a", bytes("alpha2"), TTL);
+        cache.close();
+
+        DiskCache reopened = DiskCache.open(directory, SEGMENT_SIZE);
+        assertEquals(2, reopened.size());
+        assertArrayEquals(bytes("alpha2"), reopened.get("a"));
+        assertArrayEquals(bytes("beta"), reopened.get("b"));
+    }
+
+    @Test
+    void ignoresCorruptedRecordWhenReopened() throws IOException {
+        DiskCache cache = DiskCache.open(directory, SEGMENT_SIZE);
+        cache.put("a", bytes("alpha"), TTL);
+        cache.put("b", bytes("corrupted"), TTL);
+        cache.close();
+
+        //Flip one byte of the payload, so the checksum does not match
+        File segment = segments()[0];
+        byte[] content = Files.readAllBytes(segment.toPath());
+        int offset = indexOf(content, bytes("corrupted"));
+        try (RandomAccessFile file = new RandomAccessFile(segment, "rw")) {
+            file.seek(offset);
+            file.write(content[offset] ^ 0xFF);
+        }
+
+        DiskCache reopened = DiskCache.open(directory, SEGMENT_SIZE);
+        assertEquals(1, reopened.size());
+        assertArrayEquals(bytes("alpha"), reopened.get("a"));
+        assertNull(reopened.get("b"));
+
+        //New records replace the corrupted record and are restored
+        reopened.put("c", bytes("gamma"), TTL);
+        reopened.close();
+        DiskCache recovered = DiskCache.open(directory, SEGMENT_SIZE);
+        assertArrayEquals(bytes("alpha"), recovered.get("a"));
+        assertArrayEquals(bytes("gamma"), recovered.get("c"));
+        assertNull(recovered.get("b"));
+    }
+
+    @Test
+    void ignoresTornRecordWhenReopened() throws IOException {
+        DiskCache cache = DiskCache.open(directory, SEGMENT_SIZE);
+        cache.put("a", bytes("alpha"), TTL);
+        cache.close();
+
+        //A record whose header was written before a crash, but not its content
+        File segment = segments()[0];
+        byte[] content = Files.readAllBytes(segment.toPath());
+        int end = indexOf(content, bytes("alpha")) + 5 + 4;
+        try (RandomAccessFile file = new RandomAccessFile(segment, "rw")) {
+            file.seek(end);
+            file.writeInt(0x4A534432);
+            file.writeInt(64);
+        }
+
+        DiskCache reopened = DiskCache.open(directory, SEGMENT_SIZE);
+        assertEquals(1, reopened.size());
+        assertArrayEquals(bytes("alpha"), reopened.get("a"));
+    }
+
+    @Test
+    void keepsInvalidatedRecordsRemovedWhenReopened() throws IOException {
+        DiskCache cache = DiskCache.open(directory, SEGMENT_SIZE);
+        cache.put("a", bytes("alpha"), TTL);
+        cache.put("b", bytes("beta"), TTL);
+        cache.invalidate("a");
+        assertNull(cache.get("a"));
+        cache.close();
+
+        DiskCache reopened = DiskCache.open(directory, SEGMENT_SIZE);
+        assertNull(reopened.get("a"));
+        assertArrayEquals(bytes("beta"), reopened.get("b"));
+    }
+
+    @Test
+    void returnsOnlyPayloadsWithinMaximumAge() throws IOException {
+        DiskCache cache = DiskCache.open(directory, SEGMENT_SIZE);
+        cache.put("a", bytes("alpha"), TTL);
+        assertArrayEquals(bytes("alpha"), cache.get("a", TTL));
+        assertNull(cache.get("a", -1));
+        cache.put("b", bytes("beta"), -1);
+        assertNull(cache.get("b"));
+    }
+
+    @Test
+    void compactsDeadRecords() throws IOException {
+        DiskCache cache = DiskCache.open(directory, SEGMENT_SIZE);
+        byte[] payload = new byte[256];
+        for (int i = 0; i < 64; i++) {
+            payload[0] = (byte) i;
+            cache.put("key" + (i % 4), payload.clone(), TTL);
+        }
+        cache.put("expired", bytes("gone"), -1);
+        cache.invalidate("key3");
+
+        cache.compact();
+        assertEquals(1, segments().length);
+        assertEquals(3, cache.size());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(60 + i, cache.get("key" + i)[0]);
+        }
+        assertNull(cache.get("key3"));
+        cache.close();
+
+        DiskCache reopened = DiskCache.open(directory, SEGMENT_SIZE);
+        assertEquals(3, reopened.size());
+        assertEquals(62, reopened.get("key2")[0]);
+        assertNull(reopened.get("key3"));
+        assertNull(reopened.get("expired"));
+    }
+
+    @Test
+    void compactsAutomaticallyWhenFull() throws IOException {
+        DiskCache cache = DiskCache.open(directory, SEGMENT_SIZE);
+        byte[] payload = new byte[512];
+        for (int i = 0; i < 256; i++) {
+            cache.put("key", payload, TTL);
+        }
+        assertEquals(1, cache.size());
+        assertTrue(segments().length <= 2);
+    }
+
+    @Test
+    void keepsRecordsIfCompactionFails() throws IOException {
+        DiskCache cache = DiskCache.open(directory, SEGMENT_SIZE);
+        cache.put("a", bytes("alpha"), TTL);
+        cache.put("b", bytes("beta"), TTL);
+
+        //Block the file of the next segment, so it cannot be created
+        File blocker = new File(directory, "segment-00000001.jsdb");
+        assertTrue(blocker.mkdir());
+        assertThrows(IOException.class, cache::compact);
+
+        assertEquals(2, cache.size());
+        assertArrayEquals(bytes("alpha"), cache.get("a"));
+        assertArrayEquals(bytes("beta"), cache.get("b"));
+        assertTrue(cache.put("c", bytes("gamma"), TTL));
+
+        assertTrue(blocker.delete());
+        cache.compact();
+        assertArrayEquals(bytes("alpha"), cache.get("a"));
+        assertArrayEquals(bytes("gamma"), cache.get("c"));
+    }
+
+    @Test
+    void returnsNothingWhenClosed() throws IOException {
+        DiskCache cache = DiskCache.open(directory, SEGMENT_SIZE);
+        cache.put("a", bytes("alpha"), TTL);
+        cache.close();
+        assertNull(cache.get("a"));
+        assertFalse(cache.put("b", bytes("beta"), TTL));
+    }
+
+    private File[] segments() {
+        File[] files = directory.listFiles((dir, name) -> name.endsWith(".jsdb"));
+        assertTrue(files != null);
+        return files;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int indexOf(byte[] content, byte[] target) {
+        outer:
+        for (int i = 0; i <= content.length - target.length; i++) {
+            for (int j = 0; j < target.length; j++) {
+                if (content[i + j] != target[j])
+                    continue outer;
+            }
+            return i;
+        }
+        throw new AssertionError("The target is not contained.");
+    }
+
+}